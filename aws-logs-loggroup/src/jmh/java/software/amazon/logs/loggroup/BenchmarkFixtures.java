@@ -0,0 +1,56 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payloads sized like the worst realistic case: full 50-item DescribeLogGroups pages of
+ * log groups whose names use the whole 512-character limit.
+ */
+final class BenchmarkFixtures {
+    static final int PAGE_SIZE = 50;
+    static final int NAME_LENGTH = 512;
+
+    private BenchmarkFixtures() {}
+
+    static String logGroupName(final int index) {
+        final String suffix = String.format("-%05d", index);
+        final StringBuilder name = new StringBuilder(NAME_LENGTH).append("/aws/benchmark/");
+        while (name.length() < NAME_LENGTH - suffix.length()) {
+            name.append('x');
+        }
+        return name.append(suffix).toString();
+    }
+
+    static LogGroup logGroup(final int index) {
+        final String logGroupName = logGroupName(index);
+        return LogGroup.builder()
+                .arn("arn:aws:logs:us-east-1:123456789012:log-group:" + logGroupName + ":*")
+                .logGroupName(logGroupName)
+                .retentionInDays(30)
+                .storedBytes(1024L * index)
+                .creationTime(1577836800000L + index)
+                .build();
+    }
+
+    static DescribeLogGroupsResponse describeLogGroupsPage(final int firstIndex, final String nextToken) {
+        final List<LogGroup> logGroups = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            logGroups.add(logGroup(firstIndex + i));
+        }
+        return DescribeLogGroupsResponse.builder()
+                .logGroups(logGroups)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static ResourceModel model(final int index) {
+        return ResourceModel.builder()
+                .logGroupName(logGroupName(index))
+                .retentionInDays(30)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a handler pays to get its client: building a new one on every call, as
+ * {@link ClientBuilder#getClient()} did before the client was cached, against the cached client.
+ * Each build resolves the region, the credentials provider chain and the client configuration again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientBuilderBenchmark {
+    @Benchmark
+    public CloudWatchLogsClient perCall() {
+        // closing it leaves LambdaWrapper.HTTP_CLIENT open, the builder did not create it
+        try (CloudWatchLogsClient client = CloudWatchLogsClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .build()) {
+            return client;
+        }
+    }
+
+    @Benchmark
+    public CloudWatchLogsClient cached() {
+        return ClientBuilder.getClient();
+    }
+}
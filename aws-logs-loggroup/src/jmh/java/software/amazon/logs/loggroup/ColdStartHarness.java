@@ -0,0 +1,129 @@
+package software.amazon.logs.loggroup;
+
+import org.json.JSONObject;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.logs.testing.CloudWatchLogsEmulator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cold starts: every sample is a fresh JVM running {@link ColdStartSample} against a
+ * {@link CloudWatchLogsEmulator} in this process, so no AWS account or network is involved. Samples
+ * alternate between unprimed runs and runs with {@link Priming} enabled, and the report gives the
+ * spread of JVM start, init, first request, total time and loaded classes for each.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@cold-start -Dcoldstart.args="20 src/jmh/resources/cold-start-read.json"
+ * </pre>
+ */
+public final class ColdStartHarness {
+    static final String LOG_GROUP_NAME = "cold-start";
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final String DEFAULT_PAYLOAD = "src/jmh/resources/cold-start-read.json";
+    private static final Duration SAMPLE_TIMEOUT = Duration.ofMinutes(2);
+    private static final List<String> METRICS = Arrays.asList(
+        "jvmStartMs", "initMs", "firstRequestMs", "totalMs", "classesAtInit", "classesAtFirstResponse");
+
+    private ColdStartHarness() {}
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        final Path payload = Paths.get(args.length > 1 ? args[1] : DEFAULT_PAYLOAD);
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), CloudWatchLogsEmulator.REGION);
+        }
+
+        final Map<String, List<JSONObject>> samples = new LinkedHashMap<>();
+        samples.put("unprimed", new ArrayList<>());
+        samples.put("primed", new ArrayList<>());
+        try (CloudWatchLogsEmulator emulator = CloudWatchLogsEmulator.start()) {
+            seed(emulator);
+            for (int run = 0; run < runs; run++) {
+                samples.get("unprimed").add(sample(emulator, payload, false));
+                samples.get("primed").add(sample(emulator, payload, true));
+            }
+        }
+
+        System.out.printf("%d fresh JVMs per mode, request %s%n", runs, payload);
+        System.out.printf("%-9s %-23s %10s %10s %10s %10s%n", "mode", "metric", "min", "median", "p90", "max");
+        samples.forEach((mode, results) -> METRICS.forEach(metric -> {
+            final List<Double> values = new ArrayList<>();
+            results.forEach(result -> values.add(result.getDouble(metric)));
+            Collections.sort(values);
+            System.out.printf("%-9s %-23s %10.1f %10.1f %10.1f %10.1f%n", mode, metric,
+                values.get(0), percentile(values, 50), percentile(values, 90), values.get(values.size() - 1));
+        }));
+    }
+
+    private static void seed(final CloudWatchLogsEmulator emulator) {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+        try (CloudWatchLogsClient client = ClientBuilder.getClient(emulator.endpoint())) {
+            proxy.injectCredentialsAndInvokeV2(CreateLogGroupRequest.builder().logGroupName(LOG_GROUP_NAME).build(),
+                client::createLogGroup);
+        }
+    }
+
+    private static JSONObject sample(final CloudWatchLogsEmulator emulator, final Path payload, final boolean primed)
+        throws IOException, InterruptedException {
+        final ProcessBuilder processBuilder = new ProcessBuilder(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            "-D" + SdkSystemSetting.AWS_REGION.property() + "=" + CloudWatchLogsEmulator.REGION,
+            "-D" + ClientBuilder.ENDPOINT_PROPERTY + "=" + emulator.endpoint(),
+            "-cp", System.getProperty("java.class.path"),
+            ColdStartSample.class.getName(),
+            payload.toString())
+            .redirectErrorStream(true);
+        // Priming only runs inside Lambda, which it tells by this variable
+        processBuilder.environment().remove("AWS_LAMBDA_FUNCTION_NAME");
+        if (primed) {
+            processBuilder.environment().put("AWS_LAMBDA_FUNCTION_NAME", "cold-start");
+            processBuilder.environment().put(Priming.OPEN_CONNECTION_VARIABLE, "true");
+        }
+
+        final Process process = processBuilder.start();
+        final StringBuilder output = new StringBuilder();
+        JSONObject result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append(System.lineSeparator());
+                if (line.startsWith(ColdStartSample.RESULT_PREFIX)) {
+                    result = new JSONObject(line.substring(ColdStartSample.RESULT_PREFIX.length()));
+                }
+            }
+        }
+        if (!process.waitFor(SAMPLE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Cold start sample timed out:" + System.lineSeparator() + output);
+        }
+        if (result == null || !"SUCCESS".equals(result.optString("status"))) {
+            throw new IllegalStateException("Cold start sample failed:" + System.lineSeparator() + output);
+        }
+        return result;
+    }
+
+    private static double percentile(final List<Double> sorted, final int percentile) {
+        final int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
+
+/**
+ * In-process stand-in for CloudWatch Logs that answers with canned responses, so benchmarks
+ * measure handler and translation cost without any network I/O.
+ */
+final class FakeCloudWatchLogsClient implements CloudWatchLogsClient {
+    private static final CreateLogGroupResponse CREATE_LOG_GROUP_RESPONSE = CreateLogGroupResponse.builder().build();
+    private static final DeleteLogGroupResponse DELETE_LOG_GROUP_RESPONSE = DeleteLogGroupResponse.builder().build();
+    private static final PutRetentionPolicyResponse PUT_RETENTION_POLICY_RESPONSE =
+            PutRetentionPolicyResponse.builder().build();
+    private static final DeleteRetentionPolicyResponse DELETE_RETENTION_POLICY_RESPONSE =
+            DeleteRetentionPolicyResponse.builder().build();
+
+    private final DescribeLogGroupsResponse describeLogGroupsResponse;
+
+    FakeCloudWatchLogsClient(final DescribeLogGroupsResponse describeLogGroupsResponse) {
+        this.describeLogGroupsResponse = describeLogGroupsResponse;
+    }
+
+    /**
+     * Dispatches a request to the matching operation, for callers that only hold the request.
+     */
+    AwsResponse invoke(final AwsRequest request) {
+        if (request instanceof DescribeLogGroupsRequest) {
+            return describeLogGroups((DescribeLogGroupsRequest) request);
+        } else if (request instanceof CreateLogGroupRequest) {
+            return createLogGroup((CreateLogGroupRequest) request);
+        } else if (request instanceof DeleteLogGroupRequest) {
+            return deleteLogGroup((DeleteLogGroupRequest) request);
+        } else if (request instanceof PutRetentionPolicyRequest) {
+            return putRetentionPolicy((PutRetentionPolicyRequest) request);
+        } else if (request instanceof DeleteRetentionPolicyRequest) {
+            return deleteRetentionPolicy((DeleteRetentionPolicyRequest) request);
+        }
+        throw new UnsupportedOperationException(request.getClass().getSimpleName());
+    }
+
+    @Override
+    public DescribeLogGroupsResponse describeLogGroups(final DescribeLogGroupsRequest request) {
+        return describeLogGroupsResponse;
+    }
+
+    @Override
+    public CreateLogGroupResponse createLogGroup(final CreateLogGroupRequest request) {
+        return CREATE_LOG_GROUP_RESPONSE;
+    }
+
+    @Override
+    public DeleteLogGroupResponse deleteLogGroup(final DeleteLogGroupRequest request) {
+        return DELETE_LOG_GROUP_RESPONSE;
+    }
+
+    @Override
+    public PutRetentionPolicyResponse putRetentionPolicy(final PutRetentionPolicyRequest request) {
+        return PUT_RETENTION_POLICY_RESPONSE;
+    }
+
+    @Override
+    public DeleteRetentionPolicyResponse deleteRetentionPolicy(final DeleteRetentionPolicyRequest request) {
+        return DELETE_RETENTION_POLICY_RESPONSE;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full handleRequest chains against {@link FakeCloudWatchLogsClient}, so only the handler,
+ * translation and proxy overhead is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerBenchmark {
+    private final LoggerProxy logger = new LoggerProxy();
+    private FakeClientProxy readProxy;
+    private FakeClientProxy listProxy;
+
+    @Setup
+    public void setup() {
+        final DescribeLogGroupsResponse readResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(BenchmarkFixtures.logGroup(0)))
+                .build();
+        readProxy = new FakeClientProxy(new FakeCloudWatchLogsClient(readResponse));
+        listProxy = new FakeClientProxy(new FakeCloudWatchLogsClient(
+                BenchmarkFixtures.describeLogGroupsPage(0, "token")));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        return new CreateHandler().handleRequest(readProxy, request(), null, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return new ReadHandler().handleRequest(readProxy, request(), null, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return new ListHandler().handleRequest(listProxy, ResourceHandlerRequest.<ResourceModel>builder().build(),
+                null, logger);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BenchmarkFixtures.model(0))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The local name check Delete, and Create with a generated name, run before their first service call,
+ * on a valid name and on one with a character the pattern does not allow. Run with {@code -prof gc}
+ * to see the valid case does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelValidatorBenchmark {
+    private ResourceModel validModel;
+    private ResourceModel invalidModel;
+
+    @Setup
+    public void setup() {
+        validModel = BenchmarkFixtures.model(0);
+        invalidModel = BenchmarkFixtures.model(0);
+        invalidModel.setLogGroupName(invalidModel.getLogGroupName() + ":1");
+    }
+
+    @Benchmark
+    public Optional<String> validateValidModel() {
+        return ModelValidator.validatePrimaryIdentifier(validModel);
+    }
+
+    @Benchmark
+    public Optional<String> validateInvalidModel() {
+        return ModelValidator.validatePrimaryIdentifier(invalidModel);
+    }
+}
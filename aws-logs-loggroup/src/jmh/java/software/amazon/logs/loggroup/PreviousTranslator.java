@@ -0,0 +1,54 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The read translation as it was before reads matched the exact name, kept so benchmarks can compare
+ * the old and new paths: a prefix request with the service's default page size, and a mapping that
+ * streams the page once per attribute and takes each one from whichever group has it.
+ */
+final class PreviousTranslator {
+    private PreviousTranslator() {}
+
+    static DescribeLogGroupsRequest translateToReadRequest(final ResourceModel model) {
+        return DescribeLogGroupsRequest.builder()
+                .logGroupNamePrefix(model.getLogGroupName())
+                .build();
+    }
+
+    static ResourceModel translateForRead(final DescribeLogGroupsResponse response) {
+        final String logGroupName = streamOfOrEmpty(response.logGroups())
+                .map(LogGroup::logGroupName)
+                .filter(Objects::nonNull)
+                .findAny()
+                .orElse(null);
+        final String logGroupArn = streamOfOrEmpty(response.logGroups())
+                .map(LogGroup::arn)
+                .filter(Objects::nonNull)
+                .findAny()
+                .orElse(null);
+        final Integer retentionInDays = streamOfOrEmpty(response.logGroups())
+                .map(LogGroup::retentionInDays)
+                .filter(Objects::nonNull)
+                .findAny()
+                .orElse(null);
+        return ResourceModel.builder()
+                .arn(logGroupArn)
+                .logGroupName(logGroupName)
+                .retentionInDays(retentionInDays)
+                .build();
+    }
+
+    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
+        return Optional.ofNullable(collection)
+                .map(Collection::stream)
+                .orElseGet(Stream::empty);
+    }
+}
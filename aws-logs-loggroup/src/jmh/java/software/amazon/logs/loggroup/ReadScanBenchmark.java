@@ -0,0 +1,161 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reading {@value #LOG_GROUP_NAME} in an account that also holds {@code siblings} log groups whose
+ * names start with it, with the group itself either present or absent. {@code previousRead} is the read
+ * before exact matching: one prefix request with the service's default page size, taking any group on
+ * the page, so with the group absent it returns a sibling. {@code read} is the current ReadHandler.
+ * The {@code describeCalls} and {@code logGroupsReturned} counters show the service work per read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadScanBenchmark {
+    static final String LOG_GROUP_NAME = "/aws/benchmark/app";
+    // the DescribeLogGroups default when a request sets no limit
+    private static final int DEFAULT_LIMIT = 50;
+
+    @Param({"10000"})
+    public int siblings;
+
+    @Param({"present", "absent"})
+    public String target;
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName(LOG_GROUP_NAME).build())
+            .build();
+    private AccountProxy proxy;
+
+    @Setup
+    public void setup() {
+        // already in the ASCII order DescribeLogGroups returns: the name sorts before "<name>-..."
+        final List<LogGroup> logGroups = new ArrayList<>(siblings + 1);
+        if ("present".equals(target)) {
+            logGroups.add(logGroup(LOG_GROUP_NAME));
+        }
+        for (int i = 0; i < siblings; i++) {
+            logGroups.add(logGroup(String.format("%s-%05d", LOG_GROUP_NAME, i)));
+        }
+        proxy = new AccountProxy(logGroups);
+    }
+
+    @Benchmark
+    public ResourceModel previousRead(final Counters counters) {
+        proxy.counters = counters;
+        final DescribeLogGroupsResponse response = proxy.injectCredentialsAndInvokeV2(
+                PreviousTranslator.translateToReadRequest(request.getDesiredResourceState()),
+                ClientBuilder.getClient()::describeLogGroups);
+        return PreviousTranslator.translateForRead(response);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read(final Counters counters) {
+        proxy.counters = counters;
+        try {
+            return new ReadHandler().handleRequest(proxy, request, null, logger);
+        } catch (final ResourceNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static LogGroup logGroup(final String logGroupName) {
+        return LogGroup.builder()
+                .arn("arn:aws:logs:us-east-1:123456789012:log-group:" + logGroupName + ":*")
+                .logGroupName(logGroupName)
+                .retentionInDays(30)
+                .build();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long describeCalls;
+        public long logGroupsReturned;
+    }
+
+    /**
+     * Serves DescribeLogGroups from a sorted list of log groups the way the service pages it: by name
+     * prefix, up to the request's limit, with the index of the next group as the page token.
+     */
+    private static final class AccountProxy extends AmazonWebServicesClientProxy {
+        private final List<LogGroup> logGroups;
+        private Counters counters;
+
+        private AccountProxy(final List<LogGroup> logGroups) {
+            super(new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"), () -> Long.MAX_VALUE);
+            this.logGroups = logGroups;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResultT> requestFunction) {
+            return (ResultT) describeLogGroups((DescribeLogGroupsRequest) request);
+        }
+
+        private DescribeLogGroupsResponse describeLogGroups(final DescribeLogGroupsRequest request) {
+            final String prefix = request.logGroupNamePrefix() == null ? "" : request.logGroupNamePrefix();
+            final int limit = request.limit() == null ? DEFAULT_LIMIT : request.limit();
+            int from = request.nextToken() == null ? firstAtOrAfter(prefix) : Integer.parseInt(request.nextToken());
+            final List<LogGroup> page = new ArrayList<>(Math.min(limit, DEFAULT_LIMIT));
+            while (from < logGroups.size() && page.size() < limit && logGroups.get(from).logGroupName().startsWith(prefix)) {
+                page.add(logGroups.get(from++));
+            }
+            final boolean more = from < logGroups.size() && logGroups.get(from).logGroupName().startsWith(prefix);
+            counters.describeCalls++;
+            counters.logGroupsReturned += page.size();
+            return DescribeLogGroupsResponse.builder()
+                    .logGroups(page)
+                    .nextToken(more ? Integer.toString(from) : null)
+                    .build();
+        }
+
+        private int firstAtOrAfter(final String prefix) {
+            int low = 0;
+            int high = logGroups.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (logGroups.get(middle).logGroupName().compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
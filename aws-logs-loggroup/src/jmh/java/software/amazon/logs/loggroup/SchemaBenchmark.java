@@ -0,0 +1,57 @@
+package software.amazon.logs.loggroup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.cloudformation.resource.Validator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The schema validation the wrapper runs on every request, against a schema parsed per call (what
+ * {@link Configuration} used to hand out) and against the one it now caches per container.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaBenchmark {
+    private final Validator validator = new Validator();
+    private JSONObject schema;
+    private JSONObject model;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        schema = new Configuration().resourceSchemaJSONObject();
+        model = new JSONObject(new Serializer().serialize(BenchmarkFixtures.model(0)));
+    }
+
+    @Benchmark
+    public JSONObject parseSchema() {
+        return Configuration.parseSchema();
+    }
+
+    @Benchmark
+    public JSONObject validateWithParsedSchema() {
+        validator.validateObject(model, Configuration.parseSchema());
+        return model;
+    }
+
+    @Benchmark
+    public JSONObject validateWithCachedSchema() {
+        validator.validateObject(model, schema);
+        return model;
+    }
+}
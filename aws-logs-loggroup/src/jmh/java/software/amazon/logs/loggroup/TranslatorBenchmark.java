@@ -0,0 +1,80 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The translators on full pages of long-named log groups. The read mapping is also timed as it was
+ * before reads matched the exact name, once per attribute with {@link PreviousTranslator}, on the full
+ * page and on the single-group page a read now asks for.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslatorBenchmark {
+    private DescribeLogGroupsResponse page;
+    private DescribeLogGroupsResponse readPage;
+    private String firstLogGroupName;
+    private String lastLogGroupName;
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        page = BenchmarkFixtures.describeLogGroupsPage(0, "token");
+        lastLogGroupName = BenchmarkFixtures.logGroupName(BenchmarkFixtures.PAGE_SIZE - 1);
+        firstLogGroupName = BenchmarkFixtures.logGroupName(0);
+        readPage = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(BenchmarkFixtures.logGroup(0)))
+                .build();
+        model = BenchmarkFixtures.model(0);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateForList() {
+        return Translator.translateForList(page);
+    }
+
+    @Benchmark
+    public ResourceModel translateForRead() {
+        // worst case: the match is the last group on the page
+        return Translator.translateForRead(page, lastLogGroupName);
+    }
+
+    @Benchmark
+    public ResourceModel previousTranslateForRead() {
+        // took each attribute from the first group that had it, so the position of the match did not matter
+        return PreviousTranslator.translateForRead(page);
+    }
+
+    @Benchmark
+    public ResourceModel translateForReadPage() {
+        return Translator.translateForRead(readPage, firstLogGroupName);
+    }
+
+    @Benchmark
+    public ResourceModel previousTranslateForReadPage() {
+        return PreviousTranslator.translateForRead(readPage);
+    }
+
+    @Benchmark
+    public CreateLogGroupRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+}
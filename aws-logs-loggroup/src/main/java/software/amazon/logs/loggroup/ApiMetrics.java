@@ -0,0 +1,285 @@
+package software.amazon.logs.loggroup;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the latency, retries and throttles of every CloudWatch Logs call made through the clients from
+ * {@link ClientBuilder}, and writes them out once per invocation, one line per operation, in CloudWatch
+ * embedded metric format (EMF) through the handler logger. CloudWatch extracts metrics from those lines,
+ * so latency percentiles can be graphed and alarmed on without the handler making any API call.
+ *
+ * <p>Latency covers the whole call, retries and backoff included, and is kept as a histogram with fixed
+ * buckets. A throttle is counted for every throttled attempt, whether it was retried or ended the call.
+ *
+ * <p>List invocations are recorded as well, see {@link #recordList}, and written as a line of their own.
+ */
+final class ApiMetrics implements ExecutionInterceptor {
+    static final String NAMESPACE = "CloudFormation/ResourceHandlers";
+
+    // upper bounds in milliseconds; one more, open-ended bucket catches everything slower
+    private static final long[] BUCKET_BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+
+    private static final ExecutionAttribute<Call> CALL = new ExecutionAttribute<>("ApiMetrics.Call");
+
+    private static final ApiMetrics INSTANCE = new ApiMetrics(System::nanoTime);
+
+    private final LongSupplier nanoClock;
+    // guarded by this
+    private final Map<String, OperationStats> operations = new TreeMap<>();
+    // guarded by this
+    private ListInvocation listInvocation;
+
+    ApiMetrics(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * The recorder shared by every client from {@link ClientBuilder}.
+     */
+    static ApiMetrics instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Wraps the retry condition of a client's retry policy, which the SDK consults with the exception of
+     * every failed attempt that may still be retried, so throttled attempts are counted as they happen.
+     */
+    RetryCondition countingThrottles(final RetryCondition retryCondition) {
+        return context -> {
+            final Call call = context.executionAttributes() == null ? null
+                : context.executionAttributes().getAttribute(CALL);
+            if (call != null && isThrottle(context.exception())) {
+                call.throttles++;
+                call.lastThrottledAttempt = call.attempts;
+            }
+            return retryCondition.shouldRetry(context);
+        };
+    }
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(CALL, new Call(nanoClock.getAsLong()));
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final Call call = executionAttributes.getAttribute(CALL);
+        if (call != null) {
+            call.attempts++;
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        record(executionAttributes, false);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        final Call call = executionAttributes.getAttribute(CALL);
+        // the last attempt is not offered for retry once the retries are used up, so it was not counted yet
+        if (call != null && isThrottle(context.exception()) && call.lastThrottledAttempt != call.attempts) {
+            call.throttles++;
+        }
+        record(executionAttributes, true);
+    }
+
+    /**
+     * Records one list invocation: the DescribeLogGroups pages it read, the models it returned and whether
+     * it stopped at its time budget. {@code scanInvocations} is how many invocations the whole scan took,
+     * for the invocation that finished it, and 0 for the others.
+     */
+    synchronized void recordList(final int pages, final int models, final boolean timeBudgetReached,
+                                 final int scanInvocations) {
+        listInvocation = new ListInvocation(pages, models, timeBudgetReached, scanInvocations);
+    }
+
+    /**
+     * Logs one EMF line per operation called since the last flush, and one for the list invocation if
+     * there was one, and starts over.
+     */
+    void flush(final Logger logger) {
+        final Map<String, OperationStats> flushed;
+        final ListInvocation flushedList;
+        synchronized (this) {
+            if (operations.isEmpty() && listInvocation == null) {
+                return;
+            }
+            flushed = new TreeMap<>(operations);
+            operations.clear();
+            flushedList = listInvocation;
+            listInvocation = null;
+        }
+        final long timestamp = System.currentTimeMillis();
+        flushed.forEach((operation, stats) -> logger.log(stats.toEmf(operation, timestamp).toString()));
+        if (flushedList != null) {
+            logger.log(flushedList.toEmf(timestamp).toString());
+        }
+    }
+
+    private void record(final ExecutionAttributes executionAttributes, final boolean failed) {
+        final Call call = executionAttributes.getAttribute(CALL);
+        final String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        if (call == null || operation == null) {
+            return;
+        }
+        final double latencyMillis = (nanoClock.getAsLong() - call.startNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        synchronized (this) {
+            operations.computeIfAbsent(operation, key -> new OperationStats())
+                .add(latencyMillis, Math.max(call.attempts - 1, 0), call.throttles, failed);
+        }
+    }
+
+    private static boolean isThrottle(final Throwable exception) {
+        return exception instanceof SdkException && RetryUtils.isThrottlingException((SdkException) exception);
+    }
+
+    /**
+     * Per-call state, kept in the call's execution attributes. A call's attempts run one after another,
+     * so it needs no locking.
+     */
+    private static final class Call {
+        private final long startNanos;
+        private int attempts;
+        private int throttles;
+        private int lastThrottledAttempt;
+
+        private Call(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class OperationStats {
+        private final long[] bucketCounts = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+        private long calls;
+        private long errors;
+        private long retries;
+        private long throttles;
+        private double minMillis = Double.MAX_VALUE;
+        private double maxMillis;
+        private double sumMillis;
+
+        private void add(final double latencyMillis, final int retries, final int throttles, final boolean failed) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && latencyMillis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            bucketCounts[bucket]++;
+            calls++;
+            errors += failed ? 1 : 0;
+            this.retries += retries;
+            this.throttles += throttles;
+            minMillis = Math.min(minMillis, latencyMillis);
+            maxMillis = Math.max(maxMillis, latencyMillis);
+            sumMillis += latencyMillis;
+        }
+
+        /**
+         * The latency histogram is written as EMF values and counts, each bucket represented by its upper
+         * bound, or by the slowest call if that is lower, so CloudWatch can compute percentiles from it.
+         */
+        private JSONObject toEmf(final String operation, final long timestamp) {
+            final JSONArray values = new JSONArray();
+            final JSONArray counts = new JSONArray();
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                if (bucketCounts[bucket] > 0) {
+                    values.put(bucket < BUCKET_BOUNDS_MILLIS.length ? Math.min(BUCKET_BOUNDS_MILLIS[bucket], maxMillis) : maxMillis);
+                    counts.put(bucketCounts[bucket]);
+                }
+            }
+
+            final JSONArray metrics = new JSONArray()
+                .put(metric("Latency", "Milliseconds"))
+                .put(metric("Calls", "Count"))
+                .put(metric("Errors", "Count"))
+                .put(metric("Retries", "Count"))
+                .put(metric("Throttles", "Count"));
+            final JSONObject directive = new JSONObject()
+                .put("Namespace", NAMESPACE)
+                .put("Dimensions", new JSONArray().put(new JSONArray().put("ResourceType").put("Operation")))
+                .put("Metrics", metrics);
+
+            return new JSONObject()
+                .put("_aws", new JSONObject()
+                    .put("Timestamp", timestamp)
+                    .put("CloudWatchMetrics", new JSONArray().put(directive)))
+                .put("ResourceType", ResourceModel.TYPE_NAME)
+                .put("Operation", operation)
+                .put("Latency", new JSONObject()
+                    .put("Values", values)
+                    .put("Counts", counts)
+                    .put("Min", minMillis)
+                    .put("Max", maxMillis)
+                    .put("Sum", sumMillis)
+                    .put("Count", calls))
+                .put("Calls", calls)
+                .put("Errors", errors)
+                .put("Retries", retries)
+                .put("Throttles", throttles);
+        }
+    }
+
+    private static final class ListInvocation {
+        private final int pages;
+        private final int models;
+        private final boolean timeBudgetReached;
+        private final int scanInvocations;
+
+        private ListInvocation(final int pages, final int models, final boolean timeBudgetReached,
+                               final int scanInvocations) {
+            this.pages = pages;
+            this.models = models;
+            this.timeBudgetReached = timeBudgetReached;
+            this.scanInvocations = scanInvocations;
+        }
+
+        /**
+         * {@code ListScanInvocations} is only written by the invocation that finished a scan, so its
+         * statistics are over completed scans.
+         */
+        private JSONObject toEmf(final long timestamp) {
+            final JSONArray metrics = new JSONArray()
+                .put(metric("ListPages", "Count"))
+                .put(metric("ListModels", "Count"))
+                .put(metric("ListTimeBudgetReached", "Count"));
+            final JSONObject emf = new JSONObject()
+                .put("ResourceType", ResourceModel.TYPE_NAME)
+                .put("ListPages", pages)
+                .put("ListModels", models)
+                .put("ListTimeBudgetReached", timeBudgetReached ? 1 : 0);
+            if (scanInvocations > 0) {
+                metrics.put(metric("ListScanInvocations", "Count"));
+                emf.put("ListScanInvocations", scanInvocations);
+            }
+
+            final JSONObject directive = new JSONObject()
+                .put("Namespace", NAMESPACE)
+                .put("Dimensions", new JSONArray().put(new JSONArray().put("ResourceType")))
+                .put("Metrics", metrics);
+            return emf.put("_aws", new JSONObject()
+                .put("Timestamp", timestamp)
+                .put("CloudWatchMetrics", new JSONArray().put(directive)));
+        }
+    }
+
+    private static JSONObject metric(final String name, final String unit) {
+        return new JSONObject()
+            .put("Name", name)
+            .put("Unit", unit);
+    }
+}
@@ -0,0 +1,150 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base for the handlers that go through {@code proxy.initiate(...)} call chains. Every service call in a
+ * chain is keyed by its call graph name, and its response is kept in the {@link CallbackContext}, so a
+ * call that already completed is served from the context instead of being made again, whether later in
+ * the same chain or in a callback invocation.
+ */
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    // short, since a checkpoint means there is work left to do straight away
+    static final int CHECKPOINT_CALLBACK_DELAY_SECONDS = 1;
+
+    static {
+        // HandlerWrapper builds its handlers while the function initializes
+        Priming.onInit();
+    }
+
+    private final Supplier<Deadline> deadlines;
+    private Deadline deadline;
+
+    protected BaseHandlerStd() {
+        this(Deadline::start);
+    }
+
+    BaseHandlerStd(final Supplier<Deadline> deadlines) {
+        this.deadlines = deadlines;
+        this.deadline = deadlines.get();
+    }
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        Priming.reportTo(logger);
+        // the handler instance outlives the invocation, so each one starts its own budget
+        deadline = deadlines.get();
+        try {
+            return handleRequest(
+                proxy,
+                request,
+                callbackContext != null ? callbackContext : new CallbackContext(),
+                proxy.newProxy(ClientBuilder::getClient),
+                logger
+            );
+        } finally {
+            ApiMetrics.instance().flush(logger);
+        }
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
+        final Logger logger);
+
+    /**
+     * Starts a chain from the outcome of a {@link ModelValidator} check: a failure with InvalidRequest
+     * when the model breaks a schema constraint, so no service call is made, and progress otherwise.
+     */
+    protected static ProgressEvent<ResourceModel, CallbackContext> validated(
+        final Optional<String> violation,
+        final ResourceModel model,
+        final CallbackContext callbackContext) {
+        return violation
+            .map(message -> ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, message))
+            .orElseGet(() -> ProgressEvent.progress(model, callbackContext));
+    }
+
+    /**
+     * Runs the next step of a chain unless this invocation has used up its time budget. Then the
+     * progress so far, memoized in the callback context, is handed back to CloudFormation as a
+     * checkpoint instead, and the next invocation resumes the chain with a fresh budget. Steps after
+     * a checkpoint pass it through untouched.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> withinDeadline(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Logger logger,
+        final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+        if (progress.getCallbackDelaySeconds() > 0) {
+            return progress;
+        }
+        if (!deadline.isExpired()) {
+            return step.apply(progress);
+        }
+
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final int checkpoints = callbackContext.getDeadlineCheckpoints() + 1;
+        callbackContext.setDeadlineCheckpoints(checkpoints);
+        logger.log(String.format("%s [%s] reached its time budget, checkpointing (checkpoint %d).",
+            ResourceModel.TYPE_NAME, progress.getResourceModel().getLogGroupName(), checkpoints));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, CHECKPOINT_CALLBACK_DELAY_SECONDS,
+            progress.getResourceModel());
+    }
+
+    /**
+     * DescribeLogGroups can only filter on a name prefix. Its results are ASCII-sorted by name, so the
+     * exact name, when it exists, comes before every longer name sharing that prefix. Pages are read
+     * until the exact name is found, a prefix sibling shows up instead, or there are no more pages. The
+     * returned response is the last page read, with no next token.
+     */
+    protected DescribeLogGroupsResponse describeLogGroup(
+        final DescribeLogGroupsRequest awsRequest,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
+        final ResourceModel model) {
+        DescribeLogGroupsRequest pageRequest = awsRequest;
+        while (true) {
+            final DescribeLogGroupsResponse page;
+            try {
+                page = proxyClient.injectCredentialsAndInvokeV2(pageRequest, proxyClient.client()::describeLogGroups);
+            } catch (final ResourceNotFoundException e) {
+                throw notFound(model);
+            }
+
+            final ResourceModel modelFromReadResult = Translator.translateForRead(page, model.getLogGroupName());
+            if (modelFromReadResult.getLogGroupName() != null || !page.logGroups().isEmpty() || page.nextToken() == null) {
+                return page.toBuilder()
+                    .nextToken(null)
+                    .build();
+            }
+            pageRequest = pageRequest.toBuilder()
+                .nextToken(page.nextToken())
+                .build();
+        }
+    }
+
+    protected static software.amazon.cloudformation.exceptions.ResourceNotFoundException notFound(final ResourceModel model) {
+        final ResourceModel nullSafeModel = model == null ? ResourceModel.builder().build() : model;
+        return new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
+            Objects.toString(nullSafeModel.getPrimaryIdentifier()));
+    }
+}
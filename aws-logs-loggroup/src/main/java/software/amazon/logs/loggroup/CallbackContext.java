@@ -1,12 +1,13 @@
 package software.amazon.logs.loggroup;
 
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@Builder
-public class CallbackContext {
+import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public class CallbackContext extends StdCallbackContext {
+    private int stabilizationAttempts;
+    private Long stabilizationStartTime;
+    private int deadlineCheckpoints;
 }
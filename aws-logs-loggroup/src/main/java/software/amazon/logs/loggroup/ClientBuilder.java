@@ -1,14 +1,72 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
+import java.time.Duration;
+
 public class ClientBuilder {
+    static final String ENDPOINT_PROPERTY = "software.amazon.logs.endpoint";
+
+    // Many handler containers are throttled together during large stack deployments. Full jitter spreads
+    // their retries over the whole backoff window instead of having them retry in lockstep.
+    // Throttled attempts are counted on the way through the retry condition, see ApiMetrics.
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .retryCondition(ApiMetrics.instance().countingThrottles(RetryCondition.defaultRetryCondition()))
+            .throttlingBackoffStrategy(FullJitterBackoffStrategy.builder()
+                    .baseDelay(Duration.ofMillis(500))
+                    .maxBackoffTime(Duration.ofSeconds(20))
+                    .build())
+            .build();
+
     private ClientBuilder() {}
 
+    /**
+     * The client is thread-safe and carries no caller credentials (those are injected per request
+     * by the proxy), so a single instance is built on first use and shared by every handler for
+     * the lifetime of the container. The region and endpoint are resolved once, at that point.
+     */
     public static CloudWatchLogsClient getClient() {
+        return LazyHolder.CLIENT;
+    }
+
+    /**
+     * Builds a new client with the same configuration that sends every request to {@code endpoint}
+     * instead of the regional endpoint, e.g. a local CloudWatch Logs emulator. Unlike {@link #getClient()}
+     * it is not cached; the caller owns it and should close it.
+     */
+    public static CloudWatchLogsClient getClient(final URI endpoint) {
+        return builder()
+                .endpointOverride(endpoint)
+                .build();
+    }
+
+    private static CloudWatchLogsClientBuilder builder() {
+        // LambdaWrapper owns HTTP_CLIENT, so clients built here never close it
         return CloudWatchLogsClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RETRY_POLICY)
+                        .addExecutionInterceptor(ApiMetrics.instance())
+                        .build());
+    }
+
+    /**
+     * Local tools such as the cold-start harness point the cached client at a CloudWatch Logs emulator
+     * with the {@value #ENDPOINT_PROPERTY} system property. It is never set in Lambda.
+     */
+    private static CloudWatchLogsClient buildCachedClient() {
+        final String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+        return endpoint == null ? builder().build() : getClient(URI.create(endpoint));
+    }
+
+    private static class LazyHolder {
+        private static final CloudWatchLogsClient CLIENT = buildCachedClient();
     }
 }
@@ -3,19 +3,39 @@ package software.amazon.logs.loggroup;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 class Configuration extends BaseConfiguration {
+    static final String SCHEMA_FILENAME = "aws-logs-loggroup.json";
 
     public Configuration() {
-        super("aws-logs-loggroup.json");
+        super(SCHEMA_FILENAME);
     }
 
+    /**
+     * The resource schema, parsed once per container and shared by every invocation that validates
+     * against it. Callers must not modify it.
+     */
     public JSONObject resourceSchemaJSONObject() {
-        return new JSONObject(new JSONTokener(this.getClass().getClassLoader().getResourceAsStream(schemaFilename)));
+        return SchemaHolder.SCHEMA;
     }
 
     public Map<String, String> resourceDefinedTags(final ResourceModel resourceModel) {
         return null;
     }
+
+    static JSONObject parseSchema() {
+        try (InputStream schema = Configuration.class.getClassLoader().getResourceAsStream(SCHEMA_FILENAME)) {
+            return new JSONObject(new JSONTokener(schema));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class SchemaHolder {
+        private static final JSONObject SCHEMA = parseSchema();
+    }
 }
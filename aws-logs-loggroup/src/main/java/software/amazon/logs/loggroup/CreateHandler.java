@@ -3,31 +3,81 @@ package software.amazon.logs.loggroup;
 import org.apache.commons.collections.MapUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerStd {
     private static final String DEFAULT_LOG_GROUP_NAME_PREFIX = "LogGroup";
     private static final int MAX_LENGTH_LOG_GROUP_NAME = 512;
+    static final int BASE_CALLBACK_DELAY_SECONDS = 2;
+    static final int MAX_CALLBACK_DELAY_SECONDS = 30;
+    static final Duration STABILIZATION_TIMEOUT = Duration.ofMinutes(5);
+
+    private Logger logger;
+
+    public CreateHandler() {
+        super();
+    }
+
+    CreateHandler(final Supplier<Deadline> deadlines) {
+        super(deadlines);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
         final Logger logger) {
-        prepareResourceModel(request);
+
+        this.logger = logger;
+        final boolean generatedName = prepareResourceModel(request);
         final ResourceModel model = request.getDesiredResourceState();
 
+        // the wrapper validated the model before the name was generated, so a generated name is
+        // checked here; the create and retention calls are memoized in the callback context, so
+        // callbacks go straight to the visibility check
+        return validated(generatedName ? ModelValidator.validatePrimaryIdentifier(model) : Optional.empty(),
+                model, callbackContext)
+            .then(progress -> withinDeadline(progress, logger, p ->
+                proxy.initiate("AWS-Logs-LogGroup::Create", proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Translator::translateToCreateRequest)
+                    .makeServiceCall((awsRequest, sdkProxyClient) -> createLogGroup(awsRequest, sdkProxyClient, model))
+                    .progress()))
+            .then(progress -> model.getRetentionInDays() == null ? progress : withinDeadline(progress, logger, p ->
+                proxy.initiate("AWS-Logs-LogGroup::PutRetentionPolicy", proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Translator::translateToPutRetentionPolicyRequest)
+                    .makeServiceCall((awsRequest, sdkProxyClient) -> updateRetentionInDays(awsRequest, sdkProxyClient, model))
+                    .progress()))
+            .then(progress -> withinDeadline(progress, logger, p -> stabilize(proxyClient, model, callbackContext)));
+    }
+
+    private CreateLogGroupResponse createLogGroup(final CreateLogGroupRequest awsRequest,
+                                                  final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                  final ResourceModel model) {
+        final CreateLogGroupResponse awsResponse;
         try {
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToCreateRequest(model),
-                ClientBuilder.getClient()::createLogGroup);
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createLogGroup);
         } catch (final ResourceAlreadyExistsException e) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
                 Objects.toString(model.getPrimaryIdentifier()));
@@ -35,11 +85,53 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final String createMessage = String.format("%s [%s] successfully created.",
                 ResourceModel.TYPE_NAME, model.getLogGroupName());
         logger.log(createMessage);
+        return awsResponse;
+    }
+
+    /**
+     * A new log group is not always visible to DescribeLogGroups straight away. Rather than failing the
+     * stack or sleeping in the handler, each invocation checks once and, while the group is not visible,
+     * asks to be called back after an exponentially growing delay with full jitter. The attempt count
+     * and start time travel in the callback context. The check bypasses the call graph on purpose: a
+     * memoized describe would replay the first "not visible" answer forever.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                                   final ResourceModel model,
+                                                                   final CallbackContext context) {
+        if (context.getStabilizationStartTime() == null) {
+            context.setStabilizationStartTime(System.currentTimeMillis());
+        }
+        final DescribeLogGroupsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+            Translator.translateToReadRequest(model, null), proxyClient.client()::describeLogGroups);
+        final ResourceModel modelFromReadResult = Translator.translateForRead(response, model.getLogGroupName());
+        if (modelFromReadResult.getLogGroupName() != null) {
+            return ProgressEvent.defaultSuccessHandler(modelFromReadResult);
+        }
 
-        if (model.getRetentionInDays() != null) {
-            updateRetentionInDays(proxy, request, logger);
+        final int attempts = context.getStabilizationAttempts() + 1;
+        context.setStabilizationAttempts(attempts);
+        final long elapsedMillis = System.currentTimeMillis() - context.getStabilizationStartTime();
+        if (elapsedMillis > STABILIZATION_TIMEOUT.toMillis()) {
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(model)
+                .callbackContext(context)
+                .status(OperationStatus.FAILED)
+                .errorCode(HandlerErrorCode.NotStabilized)
+                .message(String.format("%s [%s] was not visible after %d attempts.",
+                    ResourceModel.TYPE_NAME, model.getLogGroupName(), attempts))
+                .build();
         }
-        return ProgressEvent.defaultSuccessHandler(model);
+
+        final int callbackDelaySeconds = callbackDelaySeconds(attempts);
+        logger.log(String.format("%s [%s] is not visible yet (attempt %d), checking again in %d seconds.",
+            ResourceModel.TYPE_NAME, model.getLogGroupName(), attempts, callbackDelaySeconds));
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+    }
+
+    static int callbackDelaySeconds(final int attempt) {
+        final int ceiling = (int) Math.min(MAX_CALLBACK_DELAY_SECONDS,
+            (long) BASE_CALLBACK_DELAY_SECONDS << Math.min(attempt - 1, 30));
+        return 1 + ThreadLocalRandom.current().nextInt(ceiling);
     }
 
     /**
@@ -51,7 +143,10 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
      * 2. Generating a log name if one is not given. This is a createOnly property,
      *    but we generate one if one is not provided.
      */
-    private void prepareResourceModel(final ResourceHandlerRequest<ResourceModel> request) {
+    /**
+     * Fills in a generated name when the request has none, and says whether it did.
+     */
+    private boolean prepareResourceModel(final ResourceHandlerRequest<ResourceModel> request) {
         if (request.getDesiredResourceState() == null) {
             request.setDesiredResourceState(new ResourceModel());
         }
@@ -59,7 +154,9 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         if (StringUtils.isNullOrEmpty(model.getLogGroupName())) {
             model.setLogGroupName(generateName(request));
+            return true;
         }
+        return false;
     }
 
     private String generateName(final ResourceHandlerRequest<ResourceModel> request) {
@@ -77,16 +174,16 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 MAX_LENGTH_LOG_GROUP_NAME);
     }
 
-    private void updateRetentionInDays(final AmazonWebServicesClientProxy proxy,
-                                       final ResourceHandlerRequest<ResourceModel> request,
-                                       final Logger logger) {
-        final ResourceModel model = request.getDesiredResourceState();
-        proxy.injectCredentialsAndInvokeV2(Translator.translateToPutRetentionPolicyRequest(model),
-            ClientBuilder.getClient()::putRetentionPolicy);
+    private PutRetentionPolicyResponse updateRetentionInDays(final PutRetentionPolicyRequest awsRequest,
+                                                             final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                             final ResourceModel model) {
+        final PutRetentionPolicyResponse awsResponse =
+            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putRetentionPolicy);
 
         final String retentionPolicyMessage =
             String.format("%s [%s] successfully applied retention in days: [%d].",
                 ResourceModel.TYPE_NAME, model.getLogGroupName(), model.getRetentionInDays());
         logger.log(retentionPolicyMessage);
+        return awsResponse;
     }
 }
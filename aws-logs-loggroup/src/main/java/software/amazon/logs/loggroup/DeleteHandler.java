@@ -1,34 +1,47 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
-import java.util.Objects;
-
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerStd {
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        try {
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToDeleteRequest(model),
-                ClientBuilder.getClient()::deleteLogGroup);
-        } catch (final ResourceNotFoundException e) {
-            throw new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
-                Objects.toString(model.getPrimaryIdentifier()));
+        final ProgressEvent<ResourceModel, CallbackContext> validation =
+            validated(ModelValidator.validatePrimaryIdentifier(model), model, callbackContext);
+        if (validation.isFailed()) {
+            return validation;
         }
 
-        final String message = String.format("%s [%s] successfully deleted.",
-                ResourceModel.TYPE_NAME, model.getLogGroupName());
-        logger.log(message);
-        return ProgressEvent.defaultSuccessHandler(null);
+        return proxy.initiate("AWS-Logs-LogGroup::Delete", proxyClient, model, callbackContext)
+            .translateToServiceRequest(Translator::translateToDeleteRequest)
+            .makeServiceCall((awsRequest, sdkProxyClient) -> {
+                final DeleteLogGroupResponse awsResponse;
+                try {
+                    awsResponse = sdkProxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                        sdkProxyClient.client()::deleteLogGroup);
+                } catch (final ResourceNotFoundException e) {
+                    throw notFound(model);
+                }
+
+                final String message = String.format("%s [%s] successfully deleted.",
+                        ResourceModel.TYPE_NAME, model.getLogGroupName());
+                logger.log(message);
+                return awsResponse;
+            })
+            .done(awsResponse -> ProgressEvent.defaultSuccessHandler(null));
     }
 }
@@ -1,5 +1,6 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -7,7 +8,32 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Every list invocation is a full round trip through CloudFormation, so instead of returning a single
+ * DescribeLogGroups page, each invocation keeps reading pages until it holds {@code maxModels} models
+ * or has spent its time budget, whichever comes first. At least one page is always read.
+ */
 public class ListHandler extends BaseHandler<CallbackContext> {
+    static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(10);
+    static final int DEFAULT_MAX_MODELS = 500;
+
+    private final Duration timeBudget;
+    private final int maxModels;
+
+    public ListHandler() {
+        this(DEFAULT_TIME_BUDGET, DEFAULT_MAX_MODELS);
+    }
+
+    ListHandler(final Duration timeBudget, final int maxModels) {
+        this.timeBudget = timeBudget;
+        this.maxModels = maxModels;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -15,14 +41,74 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        try {
+            return listPages(proxy, request);
+        } finally {
+            ApiMetrics.instance().flush(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> listPages(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request) {
+
+        final Deadline deadline = Deadline.start(timeBudget);
+        final ListToken token = ListToken.decode(request.getNextToken());
+        final List<ResourceModel> models = new ArrayList<>();
+        int pages = 0;
+        String nextToken = token.logGroupsToken;
+        do {
+            final DescribeLogGroupsResponse response =
+                    proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken, maxModels - models.size()),
+                        ClientBuilder.getClient()::describeLogGroups);
+            models.addAll(Translator.translateForList(response));
+            nextToken = response.nextToken();
+            pages++;
+        } while (nextToken != null && models.size() < maxModels && !deadline.isExpired());
+
+        final int invocations = token.invocations + 1;
+        // when a page token is left but the page of models is not full, the token is the checkpoint
+        // the next invocation resumes from after the time budget ran out
+        ApiMetrics.instance().recordList(pages, models.size(), nextToken != null && models.size() < maxModels,
+            nextToken == null ? invocations : 0);
 
-        final DescribeLogGroupsResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()),
-                    ClientBuilder.getClient()::describeLogGroups);
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .status(OperationStatus.SUCCESS)
-                .resourceModels(Translator.translateForList(response))
-                .nextToken(response.nextToken())
+                .resourceModels(models)
+                .nextToken(nextToken == null ? null : new ListToken(nextToken, invocations).encode())
                 .build();
     }
+
+    /**
+     * The continuation token handed to CloudFormation: the DescribeLogGroups token to resume from and
+     * the number of invocations the scan has taken so far.
+     */
+    private static final class ListToken {
+        private final String logGroupsToken;
+        private final int invocations;
+
+        private ListToken(final String logGroupsToken, final int invocations) {
+            this.logGroupsToken = logGroupsToken;
+            this.invocations = invocations;
+        }
+
+        private static ListToken decode(final String nextToken) {
+            if (nextToken == null) {
+                return new ListToken(null, 0);
+            }
+            try {
+                final String decoded = new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8);
+                final int separator = decoded.indexOf(':');
+                return new ListToken(decoded.substring(separator + 1),
+                    Integer.parseUnsignedInt(decoded.substring(0, separator)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new CfnInvalidRequestException(e);
+            }
+        }
+
+        private String encode() {
+            final String decoded = invocations + ":" + logGroupsToken;
+            return Base64.getUrlEncoder().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
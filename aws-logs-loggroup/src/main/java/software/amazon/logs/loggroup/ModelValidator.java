@@ -0,0 +1,65 @@
+package software.amazon.logs.loggroup;
+
+import org.json.JSONObject;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the log group name where the wrapper's schema validation does not: in Delete models, which the
+ * wrapper does not validate, and when Create generated the name after validation ran. Everything else in
+ * Create and Update models is left to the wrapper, so invalid input in those fails the same way it always
+ * has. The constraints are read from the schema and compiled once per container. The name has to match
+ * the pattern in full, as the service requires, and checking a valid name allocates nothing.
+ */
+final class ModelValidator {
+    private static final StringConstraint LOG_GROUP_NAME = new StringConstraint("LogGroupName",
+        new Configuration().resourceSchemaJSONObject().getJSONObject("properties"));
+
+    private ModelValidator() {}
+
+    /**
+     * The constraint the primary identifier breaks, if any. A name that is not set is not checked.
+     */
+    static Optional<String> validatePrimaryIdentifier(final ResourceModel model) {
+        return Optional.ofNullable(LOG_GROUP_NAME.check(model.getLogGroupName()));
+    }
+
+    /**
+     * The {@code minLength}, {@code maxLength} and {@code pattern} of a string property. Each thread
+     * reuses one matcher, reset for every value it checks.
+     */
+    static final class StringConstraint {
+        private final String property;
+        private final int minLength;
+        private final int maxLength;
+        private final Pattern pattern;
+        private final ThreadLocal<Matcher> matcher;
+
+        StringConstraint(final String property, final JSONObject properties) {
+            final JSONObject definition = properties.getJSONObject(property);
+            this.property = property;
+            this.minLength = definition.optInt("minLength", 0);
+            this.maxLength = definition.optInt("maxLength", Integer.MAX_VALUE);
+            final Pattern compiled = definition.has("pattern") ? Pattern.compile(definition.getString("pattern")) : null;
+            this.pattern = compiled;
+            this.matcher = compiled == null ? null : ThreadLocal.withInitial(() -> compiled.matcher(""));
+        }
+
+        String check(final String value) {
+            if (value == null) {
+                return null;
+            }
+            final int length = value.codePointCount(0, value.length());
+            if (length < minLength || length > maxLength) {
+                return String.format("%s must be between %d and %d characters long, but is %d.",
+                    property, minLength, maxLength, length);
+            }
+            if (matcher != null && !matcher.get().reset(value).matches()) {
+                return String.format("%s must match the pattern %s.", property, pattern.pattern());
+            }
+            return null;
+        }
+    }
+}
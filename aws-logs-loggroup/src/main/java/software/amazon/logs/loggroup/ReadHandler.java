@@ -1,48 +1,37 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
-import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
-import java.util.Objects;
-
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerStd {
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
         if (model == null || model.getLogGroupName() == null) {
-            throwNotFoundException(model);
-        }
-
-        DescribeLogGroupsResponse response = null;
-        try {
-            response = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
-                ClientBuilder.getClient()::describeLogGroups);
-        } catch (final ResourceNotFoundException e) {
-            throwNotFoundException(model);
+            throw notFound(model);
         }
 
-        final ResourceModel modelFromReadResult = Translator.translateForRead(response);
-        if (modelFromReadResult.getLogGroupName() == null) {
-            throwNotFoundException(model);
-        }
-
-        return ProgressEvent.defaultSuccessHandler(modelFromReadResult);
-    }
-
-    private void throwNotFoundException(final ResourceModel model) {
-        final ResourceModel nullSafeModel = model == null ? ResourceModel.builder().build() : model;
-        throw new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
-            Objects.toString(nullSafeModel.getPrimaryIdentifier()));
+        return proxy.initiate("AWS-Logs-LogGroup::Read", proxyClient, model, callbackContext)
+            .translateToServiceRequest(m -> Translator.translateToReadRequest(m, null))
+            .makeServiceCall((awsRequest, sdkProxyClient) -> describeLogGroup(awsRequest, sdkProxyClient, model))
+            .done(awsResponse -> {
+                final ResourceModel modelFromReadResult = Translator.translateForRead(awsResponse, model.getLogGroupName());
+                if (modelFromReadResult.getLogGroupName() == null) {
+                    throw notFound(model);
+                }
+                return ProgressEvent.defaultSuccessHandler(modelFromReadResult);
+            });
     }
 }
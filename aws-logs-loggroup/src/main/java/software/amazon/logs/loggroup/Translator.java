@@ -15,17 +15,30 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class Translator {
+    // DescribeLogGroups results are ASCII-sorted by name, so an exact name is always the first
+    // result for its own prefix and a single item per page is enough to find it
+    static final int READ_PAGE_SIZE = 1;
+
+    // the DescribeLogGroups maximum
+    static final int LIST_PAGE_SIZE = 50;
+
     private Translator() {}
 
-    static DescribeLogGroupsRequest translateToReadRequest(final ResourceModel model) {
+    static DescribeLogGroupsRequest translateToReadRequest(final ResourceModel model, final String nextToken) {
         return DescribeLogGroupsRequest.builder()
                 .logGroupNamePrefix(model.getLogGroupName())
+                .limit(READ_PAGE_SIZE)
+                .nextToken(nextToken)
                 .build();
     }
 
     static DescribeLogGroupsRequest translateToListRequest(final String nextToken) {
+        return translateToListRequest(nextToken, LIST_PAGE_SIZE);
+    }
+
+    static DescribeLogGroupsRequest translateToListRequest(final String nextToken, final int limit) {
         return DescribeLogGroupsRequest.builder()
-                .limit(50)
+                .limit(Math.min(limit, LIST_PAGE_SIZE))
                 .nextToken(nextToken)
                 .build();
     }
@@ -55,39 +68,36 @@ final class Translator {
             .build();
     }
 
-    static ResourceModel translateForRead(final DescribeLogGroupsResponse response) {
-        final String logGroupName = streamOfOrEmpty(response.logGroups())
-                .map(software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup::logGroupName)
-                .filter(Objects::nonNull)
-                .findAny()
-                .orElse(null);
-        final String logGroupArn = streamOfOrEmpty(response.logGroups())
-            .map(software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup::arn)
-            .filter(Objects::nonNull)
-            .findAny()
-            .orElse(null);
-        final Integer retentionInDays = streamOfOrEmpty(response.logGroups())
-                .map(software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup::retentionInDays)
-                .filter(Objects::nonNull)
-                .findAny()
-                .orElse(null);
-        return ResourceModel.builder()
-                .arn(logGroupArn)
-                .logGroupName(logGroupName)
-                .retentionInDays(retentionInDays)
-                .build();
+    /**
+     * Only a log group whose name is exactly {@code logGroupName} is translated; prefix siblings
+     * returned by DescribeLogGroups (e.g. "/app-legacy" for "/app") are ignored.
+     */
+    static ResourceModel translateForRead(final DescribeLogGroupsResponse response, final String logGroupName) {
+        return streamOfOrEmpty(response.logGroups())
+                .filter(logGroup -> Objects.equals(logGroup.logGroupName(), logGroupName))
+                .findFirst()
+                .map(Translator::translateLogGroup)
+                .orElseGet(() -> ResourceModel.builder().build());
     }
 
     static List<ResourceModel> translateForList(final DescribeLogGroupsResponse response) {
         return streamOfOrEmpty(response.logGroups())
-                .map(logGroup -> ResourceModel.builder()
-                        .arn(logGroup.arn())
-                        .logGroupName(logGroup.logGroupName())
-                        .retentionInDays(logGroup.retentionInDays())
-                        .build())
+                .map(Translator::translateLogGroup)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps every modeled attribute of a single log group in one go, so read and list can never mix
+     * fields from different groups. Attributes added to the schema only need to be mapped here.
+     */
+    static ResourceModel translateLogGroup(final software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup logGroup) {
+        return ResourceModel.builder()
+                .arn(logGroup.arn())
+                .logGroupName(logGroup.logGroupName())
+                .retentionInDays(logGroup.retentionInDays())
+                .build();
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
@@ -1,76 +1,115 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
 import java.util.Objects;
+import java.util.function.Function;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerStd {
+    private Logger logger;
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
         final Logger logger) {
 
+        this.logger = logger;
+
         // RetentionPolicyInDays is the only attribute that is not createOnly
         final ResourceModel model = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        // Each mutable property is only written when it differs from the previous state
+        if (!isChanged(previousModel, model, ResourceModel::getRetentionInDays)) {
+            return verifyExists(proxy, proxyClient, model, callbackContext);
+        }
 
         if (model.getRetentionInDays() == null) {
-            deleteRetentionPolicy(proxy, request, logger);
-        } else {
-            putRetentionPolicy(proxy, request, logger);
+            return proxy.initiate("AWS-Logs-LogGroup::DeleteRetentionPolicy", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToDeleteRetentionPolicyRequest)
+                .makeServiceCall((awsRequest, sdkProxyClient) -> deleteRetentionPolicy(awsRequest, sdkProxyClient, model))
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(model));
         }
+        return proxy.initiate("AWS-Logs-LogGroup::PutRetentionPolicy", proxyClient, model, callbackContext)
+            .translateToServiceRequest(Translator::translateToPutRetentionPolicyRequest)
+            .makeServiceCall((awsRequest, sdkProxyClient) -> putRetentionPolicy(awsRequest, sdkProxyClient, model))
+            .done(awsResponse -> ProgressEvent.defaultSuccessHandler(model));
+    }
 
-        return ProgressEvent.defaultSuccessHandler(model);
+    /**
+     * With nothing to write, the log group is still read once by its exact name, so an update of a group
+     * deleted out of band fails with NotFound, as the retention calls would have.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> verifyExists(final AmazonWebServicesClientProxy proxy,
+                                                                       final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                                       final ResourceModel model,
+                                                                       final CallbackContext callbackContext) {
+        return proxy.initiate("AWS-Logs-LogGroup::Read", proxyClient, model, callbackContext)
+            .translateToServiceRequest(m -> Translator.translateToReadRequest(m, null))
+            .makeServiceCall((awsRequest, sdkProxyClient) -> describeLogGroup(awsRequest, sdkProxyClient, model))
+            .done(awsResponse -> {
+                if (Translator.translateForRead(awsResponse, model.getLogGroupName()).getLogGroupName() == null) {
+                    throw notFound(model);
+                }
+                return ProgressEvent.defaultSuccessHandler(model);
+            });
     }
 
-    private void deleteRetentionPolicy(final AmazonWebServicesClientProxy proxy,
-                                       final ResourceHandlerRequest<ResourceModel> request,
-                                       final Logger logger) {
-        final ResourceModel model = request.getDesiredResourceState();
-        final DeleteRetentionPolicyRequest deleteRetentionPolicyRequest =
-            Translator.translateToDeleteRetentionPolicyRequest(model);
+    /**
+     * Without a previous state there is nothing to compare against, so the property is treated as changed.
+     */
+    private static boolean isChanged(final ResourceModel previousModel,
+                                     final ResourceModel model,
+                                     final Function<ResourceModel, ?> property) {
+        return previousModel == null || !Objects.equals(property.apply(previousModel), property.apply(model));
+    }
+
+    private DeleteRetentionPolicyResponse deleteRetentionPolicy(final DeleteRetentionPolicyRequest awsRequest,
+                                                                final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                                final ResourceModel model) {
+        final DeleteRetentionPolicyResponse awsResponse;
         try {
-            proxy.injectCredentialsAndInvokeV2(deleteRetentionPolicyRequest,
-                ClientBuilder.getClient()::deleteRetentionPolicy);
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::deleteRetentionPolicy);
         } catch (final ResourceNotFoundException e) {
-            throwNotFoundException(model);
+            throw notFound(model);
         }
 
         final String retentionPolicyMessage =
             String.format("%s [%s] successfully deleted retention policy.",
                 ResourceModel.TYPE_NAME, model.getLogGroupName());
         logger.log(retentionPolicyMessage);
+        return awsResponse;
     }
 
-    private void putRetentionPolicy(final AmazonWebServicesClientProxy proxy,
-                                    final ResourceHandlerRequest<ResourceModel> request,
-                                    final Logger logger) {
-        final ResourceModel model = request.getDesiredResourceState();
-        final PutRetentionPolicyRequest putRetentionPolicyRequest =
-            Translator.translateToPutRetentionPolicyRequest(model);
+    private PutRetentionPolicyResponse putRetentionPolicy(final PutRetentionPolicyRequest awsRequest,
+                                                          final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                                          final ResourceModel model) {
+        final PutRetentionPolicyResponse awsResponse;
         try {
-            proxy.injectCredentialsAndInvokeV2(putRetentionPolicyRequest,
-                ClientBuilder.getClient()::putRetentionPolicy);
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::putRetentionPolicy);
         } catch (final ResourceNotFoundException e) {
-            throwNotFoundException(model);
+            throw notFound(model);
         }
 
         final String retentionPolicyMessage =
             String.format("%s [%s] successfully applied retention in days: [%d].",
                 ResourceModel.TYPE_NAME, model.getLogGroupName(), model.getRetentionInDays());
         logger.log(retentionPolicyMessage);
-    }
-
-    private void throwNotFoundException(final ResourceModel model) {
-        throw new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
-            Objects.toString(model.getPrimaryIdentifier()));
+        return awsResponse;
     }
 }
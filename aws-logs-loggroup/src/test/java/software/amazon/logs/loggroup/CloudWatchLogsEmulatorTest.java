@@ -0,0 +1,143 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LimitExceededException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.OperationAbortedException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.logs.testing.CloudWatchLogsEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CloudWatchLogsEmulatorTest {
+    private CloudWatchLogsEmulator emulator;
+    private CloudWatchLogsClient client;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeAll
+    public static void setupRegion() {
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), CloudWatchLogsEmulator.REGION);
+        }
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        emulator = CloudWatchLogsEmulator.start();
+        client = ClientBuilder.getClient(emulator.endpoint());
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        emulator.close();
+    }
+
+    @Test
+    public void readRequest_ExactNameSortsFirst() {
+        create("/aws/lambda/app-5xx", null);
+        create("/aws/lambda/app", 30);
+
+        final ResourceModel model = ResourceModel.builder().logGroupName("/aws/lambda/app").build();
+        final DescribeLogGroupsResponse response = proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToReadRequest(model, null), client::describeLogGroups);
+
+        assertThat(response.nextToken()).isNotNull();
+        assertThat(Translator.translateForRead(response, "/aws/lambda/app")).isEqualTo(ResourceModel.builder()
+                .arn("arn:aws:logs:us-east-1:123456789012:log-group:/aws/lambda/app:*")
+                .logGroupName("/aws/lambda/app")
+                .retentionInDays(30)
+                .build());
+    }
+
+    @Test
+    public void listRequest_FollowsPagingTokens() {
+        for (int i = 0; i < 120; i++) {
+            create(String.format("group-%03d", i), null);
+        }
+
+        final DescribeLogGroupsResponse first = proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToListRequest(null), client::describeLogGroups);
+        final DescribeLogGroupsResponse second = proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToListRequest(first.nextToken()), client::describeLogGroups);
+        final DescribeLogGroupsResponse last = proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToListRequest(second.nextToken()), client::describeLogGroups);
+
+        assertThat(first.logGroups()).hasSize(50);
+        assertThat(second.logGroups().get(0).logGroupName()).isEqualTo("group-050");
+        assertThat(last.logGroups()).hasSize(20);
+        assertThat(last.nextToken()).isNull();
+    }
+
+    @Test
+    public void createLogGroup_AlreadyExists() {
+        create("group", null);
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> create("group", null));
+    }
+
+    @Test
+    public void createLogGroup_QuotaExceeded() {
+        emulator.withLogGroupQuota(1);
+        create("first", null);
+
+        assertThrows(LimitExceededException.class, () -> create("second", null));
+    }
+
+    @Test
+    public void deleteLogGroup_NotFound() {
+        final ResourceModel model = ResourceModel.builder().logGroupName("missing").build();
+
+        assertThrows(ResourceNotFoundException.class, () -> proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToDeleteRequest(model), client::deleteLogGroup));
+    }
+
+    @Test
+    public void throttling_IsRetriedByClient() {
+        emulator.failNext("DescribeLogGroups", CloudWatchLogsEmulator.THROTTLING, 1);
+
+        final DescribeLogGroupsResponse response = proxy.injectCredentialsAndInvokeV2(
+                DescribeLogGroupsRequest.builder().build(), client::describeLogGroups);
+
+        assertThat(response.logGroups()).isEmpty();
+        assertThat(emulator.requestCount("DescribeLogGroups")).isEqualTo(2);
+    }
+
+    @Test
+    public void operationAborted_IsSurfaced() {
+        emulator.failNext("CreateLogGroup", CloudWatchLogsEmulator.OPERATION_ABORTED, 1);
+
+        assertThrows(OperationAbortedException.class, () -> create("group", null));
+        assertThat(emulator.requestCount("CreateLogGroup")).isEqualTo(1);
+    }
+
+    private void create(final String logGroupName, final Integer retentionInDays) {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName(logGroupName)
+                .retentionInDays(retentionInDays)
+                .build();
+        final CreateLogGroupRequest request = Translator.translateToCreateRequest(model);
+        proxy.injectCredentialsAndInvokeV2(request, client::createLogGroup);
+        if (retentionInDays != null) {
+            proxy.injectCredentialsAndInvokeV2(Translator.translateToPutRetentionPolicyRequest(model),
+                    client::putRetentionPolicy);
+        }
+    }
+}
@@ -2,65 +2,70 @@ package software.amazon.logs.loggroup;
 
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class CreateHandlerTest {
+public class CreateHandlerTest extends AbstractTestBase {
     private CreateHandler handler;
-
-    @Mock
     private AmazonWebServicesClientProxy proxy;
-
-    @Mock
-    private Logger logger;
+    private CloudWatchLogsClient sdkClient;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
 
     @BeforeEach
     public void setup() {
         handler = new CreateHandler();
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(CloudWatchLogsClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
     }
 
     @Test
     public void handleRequest_Success() {
-        final DescribeLogGroupsResponse describeResponseInitial = DescribeLogGroupsResponse.builder()
-                .logGroups(Collections.emptyList())
-                .build();
-        final CreateLogGroupResponse createLogGroupResponse = CreateLogGroupResponse.builder().build();
-        final PutRetentionPolicyResponse putRetentionPolicyResponse = PutRetentionPolicyResponse.builder().build();
         final LogGroup logGroup = LogGroup.builder()
                 .logGroupName("LogGroup")
                 .retentionInDays(1)
                 .build();
 
-        doReturn(describeResponseInitial, createLogGroupResponse, putRetentionPolicyResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(logGroup))
+                .build();
+
+        mockCreateCalls();
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(describeResponse);
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -71,7 +76,8 @@ public class CreateHandlerTest {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -85,23 +91,16 @@ public class CreateHandlerTest {
 
     @Test
     public void handleRequest_SuccessGeneratedLogGroupName_ModelIsNull() {
-        final DescribeLogGroupsResponse describeResponseInitial = DescribeLogGroupsResponse.builder()
-            .logGroups(Collections.emptyList())
-            .build();
-        final CreateLogGroupResponse createLogGroupResponse = CreateLogGroupResponse.builder().build();
-
-        doReturn(describeResponseInitial, createLogGroupResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        mockDescribeWithVisibleLogGroup();
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenReturn(CreateLogGroupResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .clientRequestToken("token")
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -116,18 +115,8 @@ public class CreateHandlerTest {
 
     @Test
     public void handleRequest_SuccessGeneratedLogGroupName() {
-        final DescribeLogGroupsResponse describeResponseInitial = DescribeLogGroupsResponse.builder()
-                .logGroups(Collections.emptyList())
-                .build();
-        final CreateLogGroupResponse createLogGroupResponse = CreateLogGroupResponse.builder().build();
-        final PutRetentionPolicyResponse putRetentionPolicyResponse = PutRetentionPolicyResponse.builder().build();
-
-        doReturn(describeResponseInitial, createLogGroupResponse, putRetentionPolicyResponse)
-                .when(proxy)
-                .injectCredentialsAndInvokeV2(
-                        ArgumentMatchers.any(),
-                        ArgumentMatchers.any()
-                );
+        mockCreateCalls();
+        mockDescribeWithVisibleLogGroup();
 
         final ResourceModel model = ResourceModel.builder()
                 .retentionInDays(1)
@@ -145,7 +134,8 @@ public class CreateHandlerTest {
         request.setClientRequestToken("4b90a7e4-b790-456b-a937-0cfdfa212fed");
         request.setLogicalResourceIdentifier("taskDefinition");
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -161,12 +151,8 @@ public class CreateHandlerTest {
 
     @Test
     public void handleRequest_FailureAlreadyExists() {
-        doThrow(ResourceAlreadyExistsException.class)
-                .when(proxy)
-                .injectCredentialsAndInvokeV2(
-                        ArgumentMatchers.any(),
-                        ArgumentMatchers.any()
-                );
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenThrow(ResourceAlreadyExistsException.class);
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -178,6 +164,189 @@ public class CreateHandlerTest {
                 .build();
 
         assertThrows(CfnAlreadyExistsException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verify(sdkClient, never()).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NotVisibleYet_InProgress() {
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenReturn(CreateLogGroupResponse.builder().build());
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().logGroups(Collections.emptyList()).build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("LogGroup")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isBetween(1, CreateHandler.BASE_CALLBACK_DELAY_SECONDS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isNotNull();
+    }
+
+    @Test
+    public void handleRequest_Callback_BecomesVisible_SkipsMemoizedCalls() {
+        mockCreateCalls();
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().logGroups(Collections.emptyList()).build(),
+                DescribeLogGroupsResponse.builder().logGroups(LogGroup.builder().logGroupName("LogGroup").build()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").retentionInDays(1).build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getResourceModel().getLogGroupName()).isEqualTo("LogGroup");
+        // the callback only checks visibility: create and retention are served from the call graph
+        verify(sdkClient, times(1)).createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class));
+        verify(sdkClient, times(1)).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
+        verify(sdkClient, times(2)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Callback_StillNotVisible() {
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenReturn(CreateLogGroupResponse.builder().build());
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().logGroups(Collections.emptyList()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        for (int i = 0; i < 3; i++) {
+            response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(4);
+        assertThat(response.getCallbackDelaySeconds()).isBetween(1, 16);
+        verify(sdkClient, times(1)).createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Callback_NotStabilized() {
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenReturn(CreateLogGroupResponse.builder().build());
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().logGroups(Collections.emptyList()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .build();
+
+        final CallbackContext callbackContext =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger).getCallbackContext();
+        callbackContext.setStabilizationStartTime(
+            System.currentTimeMillis() - CreateHandler.STABILIZATION_TIMEOUT.toMillis() - 1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getCallbackContext()).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void handleRequest_TimeBudgetReached_CheckpointsAndResumes() {
+        final AtomicLong clock = new AtomicLong();
+        handler = new CreateHandler(() -> Deadline.start(Duration.ofSeconds(1), clock::get));
+        // a slow create, e.g. one that was throttled and retried, uses up the budget
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenAnswer(invocation -> {
+                clock.addAndGet(Duration.ofSeconds(2).toNanos());
+                return CreateLogGroupResponse.builder().build();
+            });
+        mockDescribeWithVisibleLogGroup();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.CHECKPOINT_CALLBACK_DELAY_SECONDS);
+        assertThat(first.getCallbackContext().getDeadlineCheckpoints()).isEqualTo(1);
+        verify(sdkClient, never()).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+
+        // the next invocation starts with a fresh budget
+        clock.set(0);
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(proxy, request, first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(1)).createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class));
+        verify(sdkClient, times(1)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_InvalidGeneratedLogGroupName_FailsBeforeAnyCall() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .logicalResourceIdentifier("taskDefinition")
+            .clientRequestToken("4b90a7e4-b790-456b-a937-0cfdfa212fed")
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+        final Map<String, String> systemTags = new HashMap<>();
+        systemTags.put("aws:cloudformation:stack-name", "stack:name");
+        request.setSystemTags(systemTags);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).startsWith("LogGroupName must match the pattern");
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void callbackDelaySeconds_GrowsWithAttemptsUpToCap() {
+        for (int attempt = 1; attempt <= 40; attempt++) {
+            final long ceiling = Math.min(CreateHandler.MAX_CALLBACK_DELAY_SECONDS,
+                (long) CreateHandler.BASE_CALLBACK_DELAY_SECONDS << Math.min(attempt - 1, 30));
+            assertThat(CreateHandler.callbackDelaySeconds(attempt)).isBetween(1, (int) ceiling);
+        }
+    }
+
+    private void mockCreateCalls() {
+        when(sdkClient.createLogGroup(ArgumentMatchers.any(CreateLogGroupRequest.class)))
+            .thenReturn(CreateLogGroupResponse.builder().build());
+        when(sdkClient.putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class)))
+            .thenReturn(PutRetentionPolicyResponse.builder().build());
+    }
+
+    /**
+     * Every describe finds a log group with the requested name, whatever it was generated as.
+     */
+    private void mockDescribeWithVisibleLogGroup() {
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenAnswer(invocation -> DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder()
+                    .logGroupName(invocation.<DescribeLogGroupsRequest>getArgument(0).logGroupNamePrefix())
+                    .build())
+                .build());
     }
 }
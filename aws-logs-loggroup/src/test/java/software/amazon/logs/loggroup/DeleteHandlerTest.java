@@ -2,63 +2,56 @@ package software.amazon.logs.loggroup;
 
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupResponse;
-import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
-import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
 
-import java.util.Collections;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class DeleteHandlerTest {
-    DeleteHandler handler;
-
-    @Mock
+public class DeleteHandlerTest extends AbstractTestBase {
+    private DeleteHandler handler;
     private AmazonWebServicesClientProxy proxy;
-
-    @Mock
-    private Logger logger;
+    private CloudWatchLogsClient sdkClient;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
 
     @BeforeEach
     public void setup() {
         handler = new DeleteHandler();
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(CloudWatchLogsClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
     }
 
     @Test
     public void handleRequest_Success() {
-        final DeleteLogGroupResponse deleteResponse = DeleteLogGroupResponse.builder().build();
-
-        final LogGroup logGroup = LogGroup.builder()
-                .logGroupName("LogGroup")
-                .retentionInDays(1)
-                .build();
-        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
-                .logGroups(Collections.singletonList(logGroup))
-                .build();
-
-        doReturn(describeResponse, deleteResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.deleteLogGroup(ArgumentMatchers.any(DeleteLogGroupRequest.class)))
+            .thenReturn(DeleteLogGroupResponse.builder().build());
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -69,7 +62,8 @@ public class DeleteHandlerTest {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -79,16 +73,13 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, times(1)).deleteLogGroup(ArgumentMatchers.any(DeleteLogGroupRequest.class));
     }
 
     @Test
     public void handleRequest_FailureNotFound() {
-        doThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class)
-                .when(proxy)
-                .injectCredentialsAndInvokeV2(
-                        ArgumentMatchers.any(),
-                        ArgumentMatchers.any()
-                );
+        when(sdkClient.deleteLogGroup(ArgumentMatchers.any(DeleteLogGroupRequest.class)))
+            .thenThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class);
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -100,6 +91,7 @@ public class DeleteHandlerTest {
                 .build();
 
         assertThrows(ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verify(sdkClient, times(1)).deleteLogGroup(ArgumentMatchers.any(DeleteLogGroupRequest.class));
     }
 }
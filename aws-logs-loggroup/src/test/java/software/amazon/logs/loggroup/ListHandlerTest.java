@@ -1,24 +1,34 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -49,7 +59,6 @@ public class ListHandlerTest {
                 .build();
         final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
                 .logGroups(Arrays.asList(logGroup, logGroup2))
-                .nextToken("token2")
                 .build();
 
         doReturn(describeResponse)
@@ -70,7 +79,6 @@ public class ListHandlerTest {
                 .build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-                .nextToken("token")
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
@@ -81,8 +89,120 @@ public class ListHandlerTest {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).containsAll(Arrays.asList(model1, model2));
-        assertThat(response.getNextToken()).isEqualTo("token2");
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        final JSONObject metrics = listMetrics();
+        assertThat(metrics.getInt("ListPages")).isEqualTo(1);
+        assertThat(metrics.getInt("ListModels")).isEqualTo(2);
+        assertThat(metrics.getInt("ListScanInvocations")).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_FillsFromSeveralPages() {
+        doReturn(page("token2", "LogGroup", "LogGroup2"), page(null, "LogGroup3"))
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().build(), null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getNextToken()).isNull();
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest(null, 500)),
+                ArgumentMatchers.any());
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest("token2", 498)),
+                ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_StopsAtModelCapAndResumes() {
+        handler = new ListHandler(Duration.ofMinutes(1), 4);
+        doReturn(page("token2", "LogGroup", "LogGroup2"), page("token3", "LogGroup3", "LogGroup4"),
+                page(null, "LogGroup5"))
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().build(), null, logger);
+
+        assertThat(first.getResourceModels()).hasSize(4);
+        assertThat(first.getNextToken()).isNotNull();
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest("token2", 2)),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().nextToken(first.getNextToken()).build(), null, logger);
+
+        assertThat(second.getResourceModels()).hasSize(1);
+        assertThat(second.getNextToken()).isNull();
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest("token3", 4)),
+                ArgumentMatchers.any());
+        final JSONObject metrics = listMetrics();
+        assertThat(metrics.getInt("ListPages")).isEqualTo(1);
+        assertThat(metrics.getInt("ListModels")).isEqualTo(1);
+        assertThat(metrics.getInt("ListScanInvocations")).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_StopsAtTimeBudget() {
+        handler = new ListHandler(Duration.ZERO, 500);
+        doReturn(page("token2", "LogGroup"))
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().build(), null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isNotNull();
+        final JSONObject metrics = listMetrics();
+        assertThat(metrics.getInt("ListPages")).isEqualTo(1);
+        assertThat(metrics.getInt("ListTimeBudgetReached")).isEqualTo(1);
+        assertThat(metrics.has("ListScanInvocations")).isFalse();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeLogGroupsRequest.class),
+                ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_InvalidNextToken() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .nextToken("not a token!")
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    /**
+     * The list metrics of the last invocation, from the EMF line it logged.
+     */
+    private JSONObject listMetrics() {
+        final ArgumentCaptor<String> lines = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).log(lines.capture());
+        final List<String> logged = lines.getAllValues();
+        for (int i = logged.size() - 1; i >= 0; i--) {
+            if (logged.get(i).contains("\"ListPages\"")) {
+                return new JSONObject(logged.get(i));
+            }
+        }
+        throw new AssertionError("no list metrics in " + logged);
+    }
+
+    private static DescribeLogGroupsResponse page(final String nextToken, final String... logGroupNames) {
+        return DescribeLogGroupsResponse.builder()
+                .logGroups(Arrays.stream(logGroupNames)
+                        .map(name -> LogGroup.builder().logGroupName(name).build())
+                        .toArray(LogGroup[]::new))
+                .nextToken(nextToken)
+                .build();
     }
 }
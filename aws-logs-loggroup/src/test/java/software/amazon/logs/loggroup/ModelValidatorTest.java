@@ -0,0 +1,62 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelValidatorTest {
+    private static ResourceModel model(final String logGroupName, final Integer retentionInDays) {
+        return ResourceModel.builder()
+            .logGroupName(logGroupName)
+            .retentionInDays(retentionInDays)
+            .build();
+    }
+
+    private static String repeat(final char c, final int times) {
+        return new String(new char[times]).replace('\0', c);
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_ValidName() {
+        assertThat(ModelValidator.validatePrimaryIdentifier(model("/aws/lambda/my-function_1.#", 3653))).isEmpty();
+        assertThat(ModelValidator.validatePrimaryIdentifier(model(repeat('a', 512), 1))).isEmpty();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_UnsetName_IsNotChecked() {
+        assertThat(ModelValidator.validatePrimaryIdentifier(model(null, null))).isEmpty();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_NameWithInvalidCharacter() {
+        final Optional<String> violation = ModelValidator.validatePrimaryIdentifier(model("LogGroup:1", 1));
+
+        assertThat(violation).isPresent();
+        assertThat(violation.get()).startsWith("LogGroupName must match the pattern");
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_NameWithSpace() {
+        // the whole name has to match, a matching prefix is not enough
+        assertThat(ModelValidator.validatePrimaryIdentifier(model("LogGroup with spaces", null))).isPresent();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_NameTooLong() {
+        assertThat(ModelValidator.validatePrimaryIdentifier(model(repeat('a', 513), null)))
+            .contains("LogGroupName must be between 1 and 512 characters long, but is 513.");
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_NameEmpty() {
+        assertThat(ModelValidator.validatePrimaryIdentifier(model("", null))).isPresent();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_IgnoresOtherProperties() {
+        // RetentionInDays is left to the wrapper's schema validation
+        assertThat(ModelValidator.validatePrimaryIdentifier(model("LogGroup", 2))).isEmpty();
+    }
+}
@@ -2,42 +2,44 @@ package software.amazon.logs.loggroup;
 
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
 
+import java.time.Duration;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class ReadHandlerTest {
-    ReadHandler handler;
-
-    @Mock
+public class ReadHandlerTest extends AbstractTestBase {
+    private ReadHandler handler;
     private AmazonWebServicesClientProxy proxy;
-
-    @Mock
-    private Logger logger;
+    private CloudWatchLogsClient sdkClient;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
 
     @BeforeEach
     public void setup() {
         handler = new ReadHandler();
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(CloudWatchLogsClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
     }
 
     @Test
@@ -50,23 +52,19 @@ public class ReadHandlerTest {
                 .logGroups(Collections.singletonList(logGroup))
                 .build();
 
-        doReturn(describeResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(describeResponse);
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
-                .retentionInDays(1)
                 .build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -78,18 +76,101 @@ public class ReadHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_RepeatedReadServedFromCallGraph() {
+        final LogGroup logGroup = LogGroup.builder()
+                .logGroupName("LogGroup")
+                .retentionInDays(1)
+                .build();
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().logGroups(logGroup).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModel()).isEqualTo(first.getResourceModel());
+        // the second read is answered from the callback context, not the service
+        verify(sdkClient, times(1)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Success_AfterEmptyPage() {
+        final DescribeLogGroupsResponse emptyPage = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.emptyList())
+                .nextToken("token")
+                .build();
+        final LogGroup logGroup = LogGroup.builder()
+                .logGroupName("LogGroup")
+                .retentionInDays(1)
+                .build();
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(logGroup))
+                .build();
+
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(emptyPage, describeResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("LogGroup")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualToComparingFieldByField(logGroup);
+        verify(sdkClient, times(2)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FailureNotFound_OnlyPrefixSibling() {
+        final LogGroup sibling = LogGroup.builder()
+                .logGroupName("LogGroup-legacy")
+                .retentionInDays(1)
+                .build();
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(sibling))
+                .nextToken("token")
+                .build();
+
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(describeResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("LogGroup")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        // the sibling sorts after the exact name, so there is no need to read the next page
+        verify(sdkClient, times(1)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+    }
+
     @Test
     public void handleRequest_FailureNotFound_EmptyLogGroupResponse() {
         final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
                 .logGroups(Collections.emptyList())
                 .build();
 
-        doReturn(describeResponse)
-                .when(proxy)
-                .injectCredentialsAndInvokeV2(
-                        ArgumentMatchers.any(),
-                        ArgumentMatchers.any()
-                );
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(describeResponse);
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -101,17 +182,13 @@ public class ReadHandlerTest {
                 .build();
 
         assertThrows(ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
 
     @Test
     public void handleRequest_FailureNotFound_WithException() {
-        doThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class);
 
         final ResourceModel model = ResourceModel.builder()
             .logGroupName("LogGroup")
@@ -123,7 +200,7 @@ public class ReadHandlerTest {
             .build();
 
         assertThrows(ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
 
     @Test
@@ -136,7 +213,8 @@ public class ReadHandlerTest {
             .build();
 
         assertThrows(ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verifyZeroInteractions(sdkClient);
     }
 
     @Test
@@ -145,6 +223,7 @@ public class ReadHandlerTest {
             .build();
 
         assertThrows(ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verifyZeroInteractions(sdkClient);
     }
 }
@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRes
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,8 +27,10 @@ public class TranslatorTest {
     public void testTranslateToRead() {
         final DescribeLogGroupsRequest request = DescribeLogGroupsRequest.builder()
             .logGroupNamePrefix(RESOURCE_MODEL.getLogGroupName())
+            .limit(Translator.READ_PAGE_SIZE)
+            .nextToken("token")
             .build();
-        assertThat(Translator.translateToReadRequest(RESOURCE_MODEL)).isEqualToComparingFieldByField(request);
+        assertThat(Translator.translateToReadRequest(RESOURCE_MODEL, "token")).isEqualToComparingFieldByField(request);
     }
 
     @Test
@@ -39,6 +42,12 @@ public class TranslatorTest {
         assertThat(Translator.translateToListRequest("token")).isEqualToComparingFieldByField(request);
     }
 
+    @Test
+    public void testTranslateToList_Limit() {
+        assertThat(Translator.translateToListRequest("token", 7).limit()).isEqualTo(7);
+        assertThat(Translator.translateToListRequest("token", 500).limit()).isEqualTo(Translator.LIST_PAGE_SIZE);
+    }
+
     @Test
     public void testTranslateToDelete() {
         final DeleteLogGroupRequest request = DeleteLogGroupRequest.builder()
@@ -86,7 +95,7 @@ public class TranslatorTest {
         final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
                 .logGroups(Collections.singletonList(logGroup))
                 .build();
-        assertThat(Translator.translateForRead(response)).isEqualToComparingFieldByField(RESOURCE_MODEL);
+        assertThat(Translator.translateForRead(response, "LogGroup")).isEqualToComparingFieldByField(RESOURCE_MODEL);
     }
 
     @Test
@@ -98,7 +107,7 @@ public class TranslatorTest {
                 .retentionInDays(null)
                 .logGroupName(null)
                 .build();
-        assertThat(Translator.translateForRead(response)).isEqualToComparingFieldByField(emptyModel);
+        assertThat(Translator.translateForRead(response, "LogGroup")).isEqualToComparingFieldByField(emptyModel);
     }
 
     @Test
@@ -110,7 +119,70 @@ public class TranslatorTest {
             .retentionInDays(null)
             .logGroupName(null)
             .build();
-        assertThat(Translator.translateForRead(response)).isEqualToComparingFieldByField(emptyModel);
+        assertThat(Translator.translateForRead(response, "LogGroup")).isEqualToComparingFieldByField(emptyModel);
+    }
+
+    @Test
+    public void testTranslateForRead_IgnoresPrefixSiblings() {
+        final LogGroup sibling = LogGroup.builder()
+            .logGroupName("LogGroup-legacy")
+            .retentionInDays(7)
+            .build();
+        final LogGroup logGroup = LogGroup.builder()
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .build();
+
+        final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
+                .logGroups(Arrays.asList(sibling, logGroup))
+                .build();
+        assertThat(Translator.translateForRead(response, "LogGroup")).isEqualToComparingFieldByField(RESOURCE_MODEL);
+    }
+
+    @Test
+    public void testTranslateForRead_OnlyPrefixSiblings() {
+        final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(LogGroup.builder().logGroupName("LogGroup-legacy").build()))
+                .build();
+        final ResourceModel emptyModel = ResourceModel.builder()
+            .retentionInDays(null)
+            .logGroupName(null)
+            .build();
+        assertThat(Translator.translateForRead(response, "LogGroup")).isEqualToComparingFieldByField(emptyModel);
+    }
+
+    @Test
+    public void testTranslateLogGroup() {
+        final LogGroup logGroup = LogGroup.builder()
+            .arn("arn:aws:logs:us-east-1:123456789012:log-group:LogGroup:*")
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .build();
+        final ResourceModel expectedModel = ResourceModel.builder()
+            .arn("arn:aws:logs:us-east-1:123456789012:log-group:LogGroup:*")
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .build();
+
+        assertThat(Translator.translateLogGroup(logGroup)).isEqualToComparingFieldByField(expectedModel);
+    }
+
+    @Test
+    public void testTranslateForList() {
+        final LogGroup logGroup = LogGroup.builder()
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .build();
+        final LogGroup logGroup2 = LogGroup.builder()
+            .logGroupName("LogGroup2")
+            .build();
+        final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
+            .logGroups(Arrays.asList(logGroup, logGroup2))
+            .build();
+
+        assertThat(Translator.translateForList(response)).containsExactly(
+            RESOURCE_MODEL,
+            ResourceModel.builder().logGroupName("LogGroup2").build());
     }
 
     @Test
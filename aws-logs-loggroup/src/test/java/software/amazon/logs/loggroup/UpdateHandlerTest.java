@@ -1,64 +1,53 @@
 package software.amazon.logs.loggroup;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class UpdateHandlerTest {
-    UpdateHandler handler;
-
-    @Mock
+public class UpdateHandlerTest extends AbstractTestBase {
+    private UpdateHandler handler;
     private AmazonWebServicesClientProxy proxy;
-
-    @Mock
-    private Logger logger;
+    private CloudWatchLogsClient sdkClient;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
 
     @BeforeEach
     public void setup() {
         handler = new UpdateHandler();
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(CloudWatchLogsClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
     }
 
     @Test
     public void handleRequest_Success() {
-        final PutRetentionPolicyResponse putRetentionPolicyResponse = PutRetentionPolicyResponse.builder().build();
-        final LogGroup logGroup = LogGroup.builder()
-                .logGroupName("LogGroup")
-                .retentionInDays(1)
-                .build();
-        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
-                .logGroups(Collections.singletonList(logGroup))
-                .build();
-
-        doReturn(putRetentionPolicyResponse, describeResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class)))
+            .thenReturn(PutRetentionPolicyResponse.builder().build());
 
         final ResourceModel model = ResourceModel.builder()
                 .logGroupName("LogGroup")
@@ -69,34 +58,24 @@ public class UpdateHandlerTest {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getResourceModel()).isEqualToComparingFieldByField(logGroup);
+        assertThat(response.getResourceModel()).isEqualTo(model);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, times(1)).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
     }
 
     @Test
     public void handleRequest_Success_RetentionPolicyDeleted() {
-        final DeleteRetentionPolicyResponse deleteRetentionPolicyResponse = DeleteRetentionPolicyResponse.builder().build();
-        final LogGroup logGroup = LogGroup.builder()
-            .logGroupName("LogGroup")
-            .build();
-        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
-            .logGroups(Collections.singletonList(logGroup))
-            .build();
-
-        doReturn(deleteRetentionPolicyResponse, describeResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.deleteRetentionPolicy(ArgumentMatchers.any(DeleteRetentionPolicyRequest.class)))
+            .thenReturn(DeleteRetentionPolicyResponse.builder().build());
 
         final ResourceModel model = ResourceModel.builder()
             .logGroupName("LogGroup")
@@ -106,41 +85,78 @@ public class UpdateHandlerTest {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getResourceModel()).isEqualToComparingFieldByField(logGroup);
+        assertThat(response.getResourceModel()).isEqualTo(model);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, times(1)).deleteRetentionPolicy(ArgumentMatchers.any(DeleteRetentionPolicyRequest.class));
+        verify(sdkClient, never()).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
     }
 
     @Test
-    public void handleRequest_SuccessNoChange() {
-        final LogGroup initialLogGroup = LogGroup.builder()
+    public void handleRequest_SuccessNoChange_SkipsRetentionCalls() {
+        mockDescribeWithLogGroup();
+        final ResourceModel previousModel = ResourceModel.builder()
             .logGroupName("LogGroup")
             .retentionInDays(1)
             .build();
-        final DescribeLogGroupsResponse initialDescribeResponse = DescribeLogGroupsResponse.builder()
-            .logGroups(Collections.singletonList(initialLogGroup))
-            .build();
-        final LogGroup logGroup = LogGroup.builder()
+        final ResourceModel model = ResourceModel.builder()
             .logGroupName("LogGroup")
             .retentionInDays(1)
             .build();
-        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
-            .logGroups(Collections.singletonList(logGroup))
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(previousModel)
             .build();
 
-        doReturn(initialDescribeResponse, describeResponse)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, times(1)).describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class));
+        verify(sdkClient, never()).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
+        verify(sdkClient, never()).deleteRetentionPolicy(ArgumentMatchers.any(DeleteRetentionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SuccessNoChange_NoRetentionInEitherState() {
+        mockDescribeWithLogGroup();
+        final ResourceModel previousModel = ResourceModel.builder()
+            .logGroupName("LogGroup")
+            .build();
+        final ResourceModel model = ResourceModel.builder()
+            .logGroupName("LogGroup")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(previousModel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, never()).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
+        verify(sdkClient, never()).deleteRetentionPolicy(ArgumentMatchers.any(DeleteRetentionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FailureNotFound_NoChange() {
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder().build());
 
         final ResourceModel model = ResourceModel.builder()
             .logGroupName("LogGroup")
@@ -149,28 +165,46 @@ public class UpdateHandlerTest {
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
+            .previousResourceState(ResourceModel.builder().logGroupName("LogGroup").retentionInDays(1).build())
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+        assertThrows(software.amazon.cloudformation.exceptions.ResourceNotFoundException.class,
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verify(sdkClient, never()).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Success_RetentionChanged() {
+        when(sdkClient.putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class)))
+            .thenReturn(PutRetentionPolicyResponse.builder().build());
+
+        final ResourceModel previousModel = ResourceModel.builder()
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .build();
+        final ResourceModel model = ResourceModel.builder()
+            .logGroupName("LogGroup")
+            .retentionInDays(7)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(previousModel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-        assertThat(response.getCallbackContext()).isNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getResourceModel()).isEqualToComparingFieldByField(logGroup);
-        assertThat(response.getMessage()).isNull();
-        assertThat(response.getErrorCode()).isNull();
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verify(sdkClient, times(1)).putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class));
     }
 
     @Test
     public void handleRequest_FailureNotFound_ServiceException() {
-        doThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class)
-            .when(proxy)
-            .injectCredentialsAndInvokeV2(
-                ArgumentMatchers.any(),
-                ArgumentMatchers.any()
-            );
+        when(sdkClient.putRetentionPolicy(ArgumentMatchers.any(PutRetentionPolicyRequest.class)))
+            .thenThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class);
 
         final ResourceModel model = ResourceModel.builder()
             .logGroupName("LogGroup")
@@ -182,6 +216,26 @@ public class UpdateHandlerTest {
             .build();
 
         assertThrows(software.amazon.cloudformation.exceptions.ResourceNotFoundException.class,
-            () -> handler.handleRequest(proxy, request, null, logger));
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    @Test
+    public void handleRequest_FailureNotFound_DeleteRetentionPolicy() {
+        when(sdkClient.deleteRetentionPolicy(ArgumentMatchers.any(DeleteRetentionPolicyRequest.class)))
+            .thenThrow(software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .build();
+
+        assertThrows(software.amazon.cloudformation.exceptions.ResourceNotFoundException.class,
+            () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    private void mockDescribeWithLogGroup() {
+        when(sdkClient.describeLogGroups(ArgumentMatchers.any(DescribeLogGroupsRequest.class)))
+            .thenReturn(DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build())
+                .build());
     }
 }
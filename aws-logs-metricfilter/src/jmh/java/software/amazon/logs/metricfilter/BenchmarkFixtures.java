@@ -0,0 +1,60 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Payloads sized like the worst realistic case: full 50-item DescribeMetricFilters pages of
+ * filters whose names use the whole 512-character limit.
+ */
+final class BenchmarkFixtures {
+    static final int PAGE_SIZE = 50;
+    static final int NAME_LENGTH = 512;
+    static final String LOG_GROUP_NAME = "/aws/benchmark/log-group";
+
+    private BenchmarkFixtures() {}
+
+    static String filterName(final int index) {
+        final String suffix = String.format("-%05d", index);
+        final StringBuilder name = new StringBuilder(NAME_LENGTH).append("benchmark-filter-");
+        while (name.length() < NAME_LENGTH - suffix.length()) {
+            name.append('x');
+        }
+        return name.append(suffix).toString();
+    }
+
+    static ResourceModel model(final int index) {
+        return ResourceModel.builder()
+                .filterName(filterName(index))
+                .logGroupName(LOG_GROUP_NAME)
+                .filterPattern("[ip, identity, user_id, timestamp, request, status_code = 5*, size]")
+                .metricTransformations(Collections.singletonList(MetricTransformation.builder()
+                        .metricName("ServerErrors")
+                        .metricNamespace("Benchmark")
+                        .metricValue("1")
+                        .defaultValue(0.0)
+                        .build()))
+                .build();
+    }
+
+    static MetricFilter metricFilter(final int index) {
+        return Translator.translateToSDK(model(index)).toBuilder()
+                .creationTime(1577836800000L + index)
+                .build();
+    }
+
+    static DescribeMetricFiltersResponse describeMetricFiltersPage(final int firstIndex, final String nextToken) {
+        final List<MetricFilter> metricFilters = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            metricFilters.add(metricFilter(firstIndex + i));
+        }
+        return DescribeMetricFiltersResponse.builder()
+                .metricFilters(metricFilters)
+                .nextToken(nextToken)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.logs.metricfilter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize and deserialize time of the callback context after the pre-existence check, which is
+ * what a callback round-trips. {@code page} memoizes a whole DescribeMetricFilters page, {@code filter}
+ * only the matched filter, and {@code flag} the existence flag the chain keeps now. The serialized
+ * size of each is printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallbackContextBenchmark {
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT_TYPE = new TypeReference<CallbackContext>() {};
+
+    @Param({"page", "filter", "flag"})
+    public String memoized;
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private final Serializer serializer = new Serializer();
+    private CallbackContext callbackContext;
+    private String serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        final DescribeMetricFiltersResponse describeResponse = "page".equals(memoized)
+                ? BenchmarkFixtures.describeMetricFiltersPage(0, null)
+                : DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Collections.singletonList(BenchmarkFixtures.metricFilter(0)))
+                        .build();
+        final FakeCloudWatchLogsClient client = new FakeCloudWatchLogsClient(describeResponse);
+        final FakeClientProxy proxy = new FakeClientProxy(client);
+        final ProxyClient<CloudWatchLogsClient> proxyClient = proxy.newProxy(() -> client);
+        final ResourceModel model = BenchmarkFixtures.model(0);
+
+        callbackContext = new CallbackContext();
+        if ("flag".equals(memoized)) {
+            new CreateHandler().preCreateCheck(proxy, callbackContext, proxyClient, model, logger)
+                    .done(exists -> ProgressEvent.progress(model, callbackContext));
+        } else {
+            // the shape the pre-existence check used to memoize: the describe response itself
+            proxy.initiate("AWS-Logs-MetricFilter::PreExistenceCheck", proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Translator::translateToReadRequest)
+                    .makeServiceCall((awsRequest, sdkProxyClient) ->
+                            sdkProxyClient.injectCredentialsAndInvokeV2(awsRequest, sdkProxyClient.client()::describeMetricFilters))
+                    .done(awsResponse -> ProgressEvent.progress(model, callbackContext));
+        }
+
+        serialized = serializer.serialize(callbackContext);
+        System.out.printf("%nserialized callback context (%s): %d bytes%n", memoized, serialized.length());
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return serializer.serialize(callbackContext);
+    }
+
+    @Benchmark
+    public CallbackContext deserialize() throws IOException {
+        return serializer.deserialize(serialized, CALLBACK_CONTEXT_TYPE);
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.logs.metricfilter;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One cold start, run by {@link ColdStartHarness} in a JVM of its own: builds the {@link HandlerWrapper}
+ * the way Lambda does at init, feeds it one recorded request through its test entrypoint, and prints
+ * the timings as a single {@value #RESULT_PREFIX}line of JSON.
+ */
+public final class ColdStartSample {
+    static final String RESULT_PREFIX = "COLD_START ";
+
+    private ColdStartSample() {}
+
+    public static void main(final String[] args) throws IOException {
+        final long mainMillis = System.currentTimeMillis();
+        final byte[] payload = Files.readAllBytes(Paths.get(args[0]));
+
+        final long initStart = System.nanoTime();
+        final HandlerWrapper wrapper = new HandlerWrapper();
+        final long initNanos = System.nanoTime() - initStart;
+        final long classesAtInit = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        final long requestStart = System.nanoTime();
+        wrapper.testEntrypoint(new ByteArrayInputStream(payload), response, new LocalContext());
+        final long requestNanos = System.nanoTime() - requestStart;
+        final long responseMillis = System.currentTimeMillis();
+
+        // read after the request, so the management beans do not count towards the phases they measure
+        final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final long classesAtResponse = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+        final String status = new JSONObject(new String(response.toByteArray(), StandardCharsets.UTF_8)).optString("status");
+
+        System.out.println(RESULT_PREFIX + new JSONObject()
+            .put("status", status)
+            .put("jvmStartMs", mainMillis - jvmStartMillis)
+            .put("initMs", millis(initNanos))
+            .put("firstRequestMs", millis(requestNanos))
+            .put("totalMs", responseMillis - jvmStartMillis)
+            .put("classesAtInit", classesAtInit)
+            .put("classesAtFirstResponse", classesAtResponse));
+        System.out.flush();
+        // the shared HTTP client and the handlers' pools must not keep the sample alive
+        System.exit(0);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The parts of the Lambda context the wrapper reads: the remaining time and a logger, which discards
+     * handler logs so printing does not show up in the timings.
+     */
+    private static final class LocalContext implements Context {
+        @Override
+        public String getAwsRequestId() {
+            return "cold-start";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "cold-start";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Deadline.FUNCTION_TIMEOUT.toMillis();
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 128;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return new LambdaLogger() {
+                @Override
+                public void log(final String message) {
+                }
+
+                // declared by newer versions of the interface only
+                public void log(final byte[] message) {
+                }
+            };
+        }
+    }
+}
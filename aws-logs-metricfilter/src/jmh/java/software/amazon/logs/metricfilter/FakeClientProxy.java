@@ -0,0 +1,31 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.util.function.Function;
+
+/**
+ * Routes every proxied call to a {@link FakeCloudWatchLogsClient} instead of the function
+ * bound to the real client. Handlers built on {@link BaseHandlerStd} reach it through
+ * {@link #newProxy}, so the call chains run unmodified.
+ */
+final class FakeClientProxy extends AmazonWebServicesClientProxy {
+    private final FakeCloudWatchLogsClient client;
+
+    FakeClientProxy(final FakeCloudWatchLogsClient client) {
+        super(new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"), () -> Long.MAX_VALUE);
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction) {
+        return (ResultT) client.invoke(request);
+    }
+}
@@ -0,0 +1,65 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
+
+/**
+ * In-process stand-in for CloudWatch Logs that answers with canned responses, so benchmarks
+ * measure handler and translation cost without any network I/O.
+ */
+final class FakeCloudWatchLogsClient implements CloudWatchLogsClient {
+    private static final PutMetricFilterResponse PUT_METRIC_FILTER_RESPONSE = PutMetricFilterResponse.builder().build();
+    private static final DeleteMetricFilterResponse DELETE_METRIC_FILTER_RESPONSE =
+            DeleteMetricFilterResponse.builder().build();
+
+    private final DescribeMetricFiltersResponse describeMetricFiltersResponse;
+
+    FakeCloudWatchLogsClient(final DescribeMetricFiltersResponse describeMetricFiltersResponse) {
+        this.describeMetricFiltersResponse = describeMetricFiltersResponse;
+    }
+
+    /**
+     * Dispatches a request to the matching operation, for callers that only hold the request.
+     */
+    AwsResponse invoke(final AwsRequest request) {
+        if (request instanceof DescribeMetricFiltersRequest) {
+            return describeMetricFilters((DescribeMetricFiltersRequest) request);
+        } else if (request instanceof PutMetricFilterRequest) {
+            return putMetricFilter((PutMetricFilterRequest) request);
+        } else if (request instanceof DeleteMetricFilterRequest) {
+            return deleteMetricFilter((DeleteMetricFilterRequest) request);
+        }
+        throw new UnsupportedOperationException(request.getClass().getSimpleName());
+    }
+
+    @Override
+    public DescribeMetricFiltersResponse describeMetricFilters(final DescribeMetricFiltersRequest request) {
+        return describeMetricFiltersResponse;
+    }
+
+    @Override
+    public PutMetricFilterResponse putMetricFilter(final PutMetricFilterRequest request) {
+        return PUT_METRIC_FILTER_RESPONSE;
+    }
+
+    @Override
+    public DeleteMetricFilterResponse deleteMetricFilter(final DeleteMetricFilterRequest request) {
+        return DELETE_METRIC_FILTER_RESPONSE;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
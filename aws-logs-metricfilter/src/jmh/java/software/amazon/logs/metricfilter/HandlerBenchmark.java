@@ -0,0 +1,80 @@
+package software.amazon.logs.metricfilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full handleRequest chains against {@link FakeCloudWatchLogsClient}, so only the call chain,
+ * translation and proxy overhead is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerBenchmark {
+    private final LoggerProxy logger = new LoggerProxy();
+    private FakeClientProxy absentProxy;
+    private FakeClientProxy presentProxy;
+    private FakeClientProxy listProxy;
+
+    @Setup
+    public void setup() {
+        absentProxy = new FakeClientProxy(new FakeCloudWatchLogsClient(DescribeMetricFiltersResponse.builder()
+                .metricFilters(Collections.emptyList())
+                .build()));
+        presentProxy = new FakeClientProxy(new FakeCloudWatchLogsClient(DescribeMetricFiltersResponse.builder()
+                .metricFilters(Collections.singletonList(BenchmarkFixtures.metricFilter(0)))
+                .build()));
+        listProxy = new FakeClientProxy(new FakeCloudWatchLogsClient(
+                BenchmarkFixtures.describeMetricFiltersPage(0, "token")));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        return new CreateHandler().handleRequest(absentProxy, request(), null, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return new ReadHandler().handleRequest(presentProxy, request(), null, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        final ResourceModel previousModel = BenchmarkFixtures.model(0);
+        previousModel.setFilterPattern("");
+        return new UpdateHandler().handleRequest(presentProxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BenchmarkFixtures.model(0))
+                .previousResourceState(previousModel)
+                .build(), null, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return new ListHandler().handleRequest(listProxy, ResourceHandlerRequest.<ResourceModel>builder().build(),
+                null, logger);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BenchmarkFixtures.model(0))
+                .build();
+    }
+}
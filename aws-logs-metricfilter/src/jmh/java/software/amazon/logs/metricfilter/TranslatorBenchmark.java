@@ -0,0 +1,52 @@
+package software.amazon.logs.metricfilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslatorBenchmark {
+    private DescribeMetricFiltersResponse page;
+    private MetricFilter metricFilter;
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        page = BenchmarkFixtures.describeMetricFiltersPage(0, "token");
+        metricFilter = BenchmarkFixtures.metricFilter(0);
+        model = BenchmarkFixtures.model(0);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(page);
+    }
+
+    @Benchmark
+    public ResourceModel translateMetricFilter() {
+        return Translator.translateMetricFilter(metricFilter);
+    }
+
+    @Benchmark
+    public PutMetricFilterRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+}
@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain;
@@ -13,20 +14,59 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  // short, since a checkpoint means there is work left to do straight away
+  static final int CHECKPOINT_CALLBACK_DELAY_SECONDS = 1;
+  static final String PRE_EXISTENCE_CHECK = "AWS-Logs-MetricFilter::PreExistenceCheck";
+
+  static {
+    // HandlerWrapper builds its handlers while the function initializes
+    Priming.onInit();
+  }
+
+  private final Supplier<Deadline> deadlines;
+  private Deadline deadline;
+  private PhaseTimings phaseTimings = new PhaseTimings();
+
+  protected BaseHandlerStd() {
+    this(Deadline::start);
+  }
+
+  BaseHandlerStd(final Supplier<Deadline> deadlines) {
+    this.deadlines = deadlines;
+    this.deadline = deadlines.get();
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    Priming.reportTo(logger);
+    // the handler instance outlives the invocation, so each one starts its own budget
+    deadline = deadlines.get();
+    phaseTimings = new PhaseTimings();
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      if (!phaseTimings.isEmpty()) {
+        logger.log(String.format("%s phase timings: %s", getClass().getSimpleName(), phaseTimings));
+      }
+      ApiMetrics.instance().flush(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -36,15 +76,48 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<CloudWatchLogsClient> proxyClient,
     final Logger logger);
 
-  protected CallChain.Completed<DescribeMetricFiltersRequest, DescribeMetricFiltersResponse, CloudWatchLogsClient, ResourceModel, CallbackContext>
+  /**
+   * Starts a chain from the outcome of a {@link ModelValidator} check: a failure with InvalidRequest
+   * when the model breaks a schema constraint, so no service call is made, and progress otherwise.
+   */
+  protected static ProgressEvent<ResourceModel, CallbackContext> validated(
+    final Optional<String> violation,
+    final ResourceModel model,
+    final CallbackContext callbackContext) {
+    return violation
+      .map(message -> ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, message))
+      .orElseGet(() -> ProgressEvent.progress(model, callbackContext));
+  }
+
+  /**
+   * Checks whether a filter with the model's exact name exists. The chain memoizes whatever the
+   * service call returns in the callback context, which is serialized on every callback, so the call
+   * returns only the existence flag rather than the DescribeMetricFilters response. The flag is null
+   * when the scan stopped at the time budget, with where to resume saved in the callback context;
+   * nothing is memoized then, and callers hand back a {@link #checkpoint} so the next invocation
+   * runs the check again from there.
+   */
+  protected CallChain.Completed<DescribeMetricFiltersRequest, Boolean, CloudWatchLogsClient, ResourceModel, CallbackContext>
     preCreateCheck(final AmazonWebServicesClientProxy proxy,
                    final CallbackContext callbackContext,
                    final ProxyClient<CloudWatchLogsClient> proxyClient,
-                   final ResourceModel model) {
+                   final ResourceModel model,
+                   final Logger logger) {
 
-    return proxy.initiate("AWS-Logs-MetricFilter::PreExistenceCheck", proxyClient, model, callbackContext)
+    return proxy.initiate(PRE_EXISTENCE_CHECK, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((awsRequest, sdkProxyClient) -> sdkProxyClient.injectCredentialsAndInvokeV2(awsRequest, sdkProxyClient.client()::describeMetricFilters))
+            .makeServiceCall((awsRequest, sdkProxyClient) -> {
+              final DescribeMetricFiltersRequest resumedRequest = awsRequest.toBuilder()
+                .nextToken(callbackContext.getPreExistenceCheckToken())
+                .build();
+              final DescribeMetricFiltersResponse awsResponse =
+                describeMetricFilter(resumedRequest, sdkProxyClient, logger, callbackContext);
+              if (awsResponse == null) {
+                return null;
+              }
+              callbackContext.setPreExistenceCheckToken(null);
+              return !awsResponse.metricFilters().isEmpty();
+            })
             .handleError((request, exception, client, model1, context1) -> {
               if (exception instanceof InvalidParameterException) {
                 return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, exception.getMessage());
@@ -55,4 +128,106 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
               return ProgressEvent.progress(model, callbackContext);
             });
   }
+
+  /**
+   * Runs the next step of a chain unless this invocation has used up its time budget. Then the
+   * progress so far, memoized in the callback context, is handed back to CloudFormation as a
+   * checkpoint instead, and the next invocation resumes the chain with a fresh budget. Steps after
+   * a checkpoint pass it through untouched.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> withinDeadline(
+    final ProgressEvent<ResourceModel, CallbackContext> progress,
+    final Logger logger,
+    final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+    if (progress.getCallbackDelaySeconds() > 0) {
+      return progress;
+    }
+    if (!deadline.isExpired()) {
+      return step.apply(progress);
+    }
+    return checkpoint(progress.getResourceModel(), progress.getCallbackContext(), logger);
+  }
+
+  /**
+   * Runs one stage of a chain like {@link #withinDeadline} does, and adds the time it takes to this
+   * invocation's phase timings under {@code callGraph}, the name of the call graph the stage initiates.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> stage(
+    final String callGraph,
+    final ProgressEvent<ResourceModel, CallbackContext> progress,
+    final Logger logger,
+    final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+    return withinDeadline(progress, logger, p -> phaseTimings.time(callGraph, () -> step.apply(p)));
+  }
+
+  /**
+   * The phase timings of the current, or last, invocation.
+   */
+  PhaseTimings getPhaseTimings() {
+    return phaseTimings;
+  }
+
+  /**
+   * Hands the progress so far back to CloudFormation, to be resumed by the next invocation.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> checkpoint(
+    final ResourceModel model,
+    final CallbackContext callbackContext,
+    final Logger logger) {
+    final int checkpoints = callbackContext.getDeadlineCheckpoints() + 1;
+    callbackContext.setDeadlineCheckpoints(checkpoints);
+    logger.log(String.format("%s [%s] reached its time budget, checkpointing (checkpoint %d).",
+      ResourceModel.TYPE_NAME, model.getFilterName(), checkpoints));
+    return ProgressEvent.defaultInProgressHandler(callbackContext, CHECKPOINT_CALLBACK_DELAY_SECONDS, model);
+  }
+
+  protected DescribeMetricFiltersResponse describeMetricFilter(
+    final DescribeMetricFiltersRequest awsRequest,
+    final ProxyClient<CloudWatchLogsClient> proxyClient,
+    final Logger logger) {
+    return describeMetricFilter(awsRequest, proxyClient, logger, null);
+  }
+
+  /**
+   * DescribeMetricFilters can only filter on a name prefix, so a read of "errors" may also return
+   * "errors-5xx". Results are ASCII-sorted by filter name, which puts the exact name ahead of every
+   * longer name sharing that prefix. Pages are read until the exact name is found, a prefix sibling
+   * shows up instead, or there are no more pages. The returned response holds only the exact match,
+   * or no filters at all if there is none.
+   *
+   * Given a {@code checkpointContext}, a scan that runs out of time between pages saves the next page
+   * token there and returns null, so the next invocation can pick it up.
+   */
+  private DescribeMetricFiltersResponse describeMetricFilter(
+    final DescribeMetricFiltersRequest awsRequest,
+    final ProxyClient<CloudWatchLogsClient> proxyClient,
+    final Logger logger,
+    final CallbackContext checkpointContext) {
+    DescribeMetricFiltersRequest pageRequest = awsRequest;
+    int pagesScanned = 0;
+    while (true) {
+      final DescribeMetricFiltersResponse page =
+        proxyClient.injectCredentialsAndInvokeV2(pageRequest, proxyClient.client()::describeMetricFilters);
+      pagesScanned++;
+
+      final Optional<MetricFilter> match = Translator.findMetricFilter(page, awsRequest.filterNamePrefix());
+      if (match.isPresent() || !page.metricFilters().isEmpty() || page.nextToken() == null) {
+        logger.log(String.format("%s [%s] lookup scanned %d page(s) of DescribeMetricFilters.",
+          ResourceModel.TYPE_NAME, awsRequest.filterNamePrefix(), pagesScanned));
+        final List<MetricFilter> metricFilters = match.map(Collections::singletonList)
+          .orElse(Collections.emptyList());
+        return page.toBuilder()
+          .metricFilters(metricFilters)
+          .nextToken(null)
+          .build();
+      }
+      if (checkpointContext != null && deadline.isExpired()) {
+        checkpointContext.setPreExistenceCheckToken(page.nextToken());
+        return null;
+      }
+      pageRequest = pageRequest.toBuilder()
+        .nextToken(page.nextToken())
+        .build();
+    }
+  }
 }
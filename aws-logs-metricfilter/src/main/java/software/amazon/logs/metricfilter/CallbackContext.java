@@ -2,9 +2,17 @@ package software.amazon.logs.metricfilter;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+/**
+ * Carries the memoized call graph results between callbacks. Chains keep those results small, e.g. the
+ * pre-existence check records a flag rather than a DescribeMetricFilters response, since the whole
+ * context is serialized on every callback.
+ */
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // where a pre-existence check that ran out of time resumes its scan
+    private String preExistenceCheckToken;
+    private int deadlineCheckpoints;
 }
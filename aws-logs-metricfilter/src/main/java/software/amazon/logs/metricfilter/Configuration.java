@@ -1,8 +1,36 @@
 package software.amazon.logs.metricfilter;
 
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
 class Configuration extends BaseConfiguration {
+    static final String SCHEMA_FILENAME = "aws-logs-metricfilter.json";
 
     public Configuration() {
-        super("aws-logs-metricfilter.json");
+        super(SCHEMA_FILENAME);
+    }
+
+    /**
+     * The resource schema, parsed once per container and shared by every invocation that validates
+     * against it. Callers must not modify it.
+     */
+    public JSONObject resourceSchemaJSONObject() {
+        return SchemaHolder.SCHEMA;
+    }
+
+    static JSONObject parseSchema() {
+        try (InputStream schema = Configuration.class.getClassLoader().getResourceAsStream(SCHEMA_FILENAME)) {
+            return new JSONObject(new JSONTokener(schema));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class SchemaHolder {
+        private static final JSONObject SCHEMA = parseSchema();
     }
 }
@@ -21,10 +21,35 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
     // if you change the value in the line below, please also update the resource schema
     private static final int MAX_LENGTH_METRIC_FILTER_NAME = 512;
+    static final String CREATE = "AWS-Logs-MetricFilter::Create";
+    static final String READ_AFTER_CREATE_VARIABLE = "READ_AFTER_CREATE";
+    private final boolean readAfterCreate;
+
+    /**
+     * The put request carries the full desired state and the resource has no read-only properties,
+     * so by default the created model is returned as is. Setting the {@value #READ_AFTER_CREATE_VARIABLE}
+     * environment variable to {@code true} adds a DescribeMetricFilters round trip to verify the filter
+     * before returning.
+     */
+    public CreateHandler() {
+        this(Boolean.parseBoolean(System.getenv(READ_AFTER_CREATE_VARIABLE)));
+    }
+
+    CreateHandler(final boolean readAfterCreate) {
+        this.readAfterCreate = readAfterCreate;
+    }
+
+    CreateHandler(final boolean readAfterCreate, final Supplier<Deadline> deadlines) {
+        super(deadlines);
+        this.readAfterCreate = readAfterCreate;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -40,7 +65,8 @@ public class CreateHandler extends BaseHandlerStd {
         // resource can auto-generate a name if not supplied by caller.
         // this logic should move up into the CloudFormation engine, but
         // currently exists here for backwards-compatibility with existing models
-        if (StringUtils.isNullOrEmpty(model.getFilterName())) {
+        final boolean generatedName = StringUtils.isNullOrEmpty(model.getFilterName());
+        if (generatedName) {
             model.setFilterName(
                     IdentifierUtils.generateResourceIdentifier(
                             request.getLogicalResourceIdentifier(),
@@ -50,22 +76,30 @@ public class CreateHandler extends BaseHandlerStd {
             );
         }
 
-        return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                preCreateCheck(proxy, callbackContext, proxyClient, model)
-                    .done((response) -> {
-                        if (response.metricFilters().isEmpty()) {
+        // the wrapper validated the model before the name was generated, so only a generated name is checked here
+        return validated(generatedName ? ModelValidator.validateFilterName(model) : Optional.empty(), model, callbackContext)
+            .then(progress -> stage(PRE_EXISTENCE_CHECK, progress, logger, p ->
+                preCreateCheck(proxy, callbackContext, proxyClient, model, logger)
+                    .done((exists) -> {
+                        if (exists == null) {
+                            return checkpoint(model, callbackContext, logger);
+                        }
+                        if (!exists) {
                             return ProgressEvent.progress(model, callbackContext);
                         }
                         return ProgressEvent.defaultFailureHandler(new CfnAlreadyExistsException(null), HandlerErrorCode.AlreadyExists);
                     })
-            )
-            .then(progress ->
-                proxy.initiate("AWS-Logs-MetricFilter::Create", proxyClient, model, callbackContext)
+            ))
+            .then(progress -> stage(CREATE, progress, logger, p ->
+                proxy.initiate(CREATE, proxyClient, model, callbackContext)
                     .translateToServiceRequest(Translator::translateToCreateRequest)
                     .makeServiceCall(this::createResource)
-                    .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                    .progress()))
+            .then(progress -> readAfterCreate
+                ? stage(ReadHandler.READ, progress, logger, p ->
+                    new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))
+                // a checkpoint from an earlier stage has to reach the caller, not turn into success
+                : withinDeadline(progress, logger, p -> ProgressEvent.defaultSuccessHandler(model)));
     }
 
 
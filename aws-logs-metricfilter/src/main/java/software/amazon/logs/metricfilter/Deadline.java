@@ -0,0 +1,71 @@
+package software.amazon.logs.metricfilter;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * The time one handler invocation has left. The wrapper does not pass the Lambda context on to
+ * handlers, so the budget starts when the invocation does and is sized from the function timeout,
+ * less a margin for handing the progress back to CloudFormation. The timeout is read from the
+ * {@value #TIMEOUT_VARIABLE} environment variable, which the templates set next to {@code Timeout}.
+ */
+final class Deadline {
+    static final String TIMEOUT_VARIABLE = "HANDLER_TIMEOUT_SECONDS";
+    static final Duration DEFAULT_FUNCTION_TIMEOUT = Duration.ofSeconds(60);
+    static final Duration MAX_SAFETY_MARGIN = Duration.ofSeconds(15);
+    static final Duration FUNCTION_TIMEOUT = functionTimeout(System.getenv(TIMEOUT_VARIABLE));
+    static final Duration DEFAULT_BUDGET = budget(FUNCTION_TIMEOUT);
+
+    private final LongSupplier nanoClock;
+    private final long deadlineNanos;
+
+    private Deadline(final Duration budget, final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.deadlineNanos = nanoClock.getAsLong() + budget.toNanos();
+    }
+
+    static Deadline start() {
+        return start(DEFAULT_BUDGET);
+    }
+
+    static Deadline start(final Duration budget) {
+        return start(budget, System::nanoTime);
+    }
+
+    static Deadline start(final Duration budget, final LongSupplier nanoClock) {
+        return new Deadline(budget, nanoClock);
+    }
+
+    /**
+     * The function timeout configured in {@code seconds}, or {@link #DEFAULT_FUNCTION_TIMEOUT} when it is
+     * not set or is not a positive number, so a bad value cannot stop every handler from loading.
+     */
+    static Duration functionTimeout(final String seconds) {
+        if (seconds == null) {
+            return DEFAULT_FUNCTION_TIMEOUT;
+        }
+        try {
+            final long parsed = Long.parseLong(seconds.trim());
+            return parsed > 0 ? Duration.ofSeconds(parsed) : DEFAULT_FUNCTION_TIMEOUT;
+        } catch (NumberFormatException e) {
+            return DEFAULT_FUNCTION_TIMEOUT;
+        }
+    }
+
+    /**
+     * The budget for a function timeout: the timeout less a quarter of it, or less
+     * {@link #MAX_SAFETY_MARGIN} for timeouts over a minute.
+     */
+    static Duration budget(final Duration functionTimeout) {
+        final Duration margin = functionTimeout.dividedBy(4);
+        return functionTimeout.minus(margin.compareTo(MAX_SAFETY_MARGIN) < 0 ? margin : MAX_SAFETY_MARGIN);
+    }
+
+    Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - nanoClock.getAsLong()));
+    }
+
+    boolean isExpired() {
+        return deadlineNanos - nanoClock.getAsLong() <= 0;
+    }
+}
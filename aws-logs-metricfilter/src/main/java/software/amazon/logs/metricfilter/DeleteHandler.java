@@ -34,6 +34,12 @@ public class DeleteHandler extends BaseHandlerStd {
 
         this.logger.log(String.format("Trying to delete model %s", model.getPrimaryIdentifier()));
 
+        final ProgressEvent<ResourceModel, CallbackContext> validation =
+            validated(ModelValidator.validatePrimaryIdentifier(model), model, callbackContext);
+        if (validation.isFailed()) {
+            return validation;
+        }
+
         return proxy.initiate("AWS-Logs-MetricFilter::Delete", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .makeServiceCall(this::deleteResource)
@@ -1,12 +1,11 @@
 package software.amazon.logs.metricfilter;
 
-import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -14,8 +13,15 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * Lists metric filters, either in one log group (see {@link #listLogGroup}) or in the whole account.
+ * Either way each invocation makes a single DescribeMetricFilters call and returns its SDK token as is,
+ * so the number of calls and the time spent per invocation do not grow with the number of log groups.
+ */
 public class ListHandler extends BaseHandler<CallbackContext> {
 
     @Override
@@ -24,26 +30,67 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        try {
+            return list(proxy, request);
+        } finally {
+            ApiMetrics.instance().flush(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        if (model != null && !StringUtils.isNullOrEmpty(model.getLogGroupName())) {
+            return listLogGroup(proxy, model, request.getNextToken());
+        }
 
-        final DescribeMetricFiltersRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
-        DescribeMetricFiltersResponse awsResponse;
+        final DescribeMetricFiltersResponse awsResponse = invoke(() -> proxy.injectCredentialsAndInvokeV2(
+            Translator.translateToListRequest(null, null, request.getNextToken()),
+            ClientBuilder.getClient()::describeMetricFilters));
+        return success(Translator.translateFromListResponse(awsResponse), awsResponse.nextToken());
+    }
 
+    /**
+     * A model with a LogGroupName scopes the list to that log group, optionally narrowed to filter
+     * names starting with its FilterName. The scope is pushed down into DescribeMetricFilters, so the
+     * service does the filtering and the SDK token is returned as is.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listLogGroup(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel model,
+        final String nextToken) {
+        final String filterNamePrefix = StringUtils.isNullOrEmpty(model.getFilterName()) ? null : model.getFilterName();
+        final DescribeMetricFiltersResponse awsResponse;
         try {
-            awsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, ClientBuilder.getClient()::describeMetricFilters);
-        } catch (InvalidParameterException e) {
-            throw new CfnInvalidRequestException(e);
+            awsResponse = invoke(() -> proxy.injectCredentialsAndInvokeV2(
+                Translator.translateToListRequest(model.getLogGroupName(), filterNamePrefix, nextToken),
+                ClientBuilder.getClient()::describeMetricFilters));
         } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (ServiceUnavailableException e) {
-            throw new CfnServiceInternalErrorException(e);
+            // no log group, so there are no filters in scope
+            return success(Collections.emptyList(), null);
         }
+        return success(Translator.translateFromListResponse(awsResponse), awsResponse.nextToken());
+    }
 
-        final List<ResourceModel> models = Translator.translateFromListResponse(awsResponse);
-
+    private static ProgressEvent<ResourceModel, CallbackContext> success(
+        final List<ResourceModel> models,
+        final String nextToken) {
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
-            .nextToken(awsResponse.nextToken())
+            .nextToken(nextToken)
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private static <T> T invoke(final Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (InvalidParameterException e) {
+            throw new CfnInvalidRequestException(e);
+        } catch (ServiceUnavailableException e) {
+            throw new CfnServiceInternalErrorException(e);
+        }
+    }
 }
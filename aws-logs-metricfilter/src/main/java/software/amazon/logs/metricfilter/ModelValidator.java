@@ -0,0 +1,79 @@
+package software.amazon.logs.metricfilter;
+
+import org.json.JSONObject;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the primary identifier where the wrapper's schema validation does not: in Delete models, which
+ * the wrapper does not validate, and the FilterName Create generates after validation ran. Everything
+ * else in Create and Update models is left to the wrapper, so invalid input in those fails the same way
+ * it always has. The constraints are read from the schema and compiled once per container. Names have to
+ * match their pattern in full, as the service requires, not only at the start like the schema's
+ * start-anchored patterns, and checking a valid name allocates nothing.
+ */
+final class ModelValidator {
+    private static final JSONObject SCHEMA = new Configuration().resourceSchemaJSONObject();
+
+    private static final StringConstraint FILTER_NAME = new StringConstraint("FilterName", SCHEMA);
+    private static final StringConstraint LOG_GROUP_NAME = new StringConstraint("LogGroupName", SCHEMA);
+
+    private ModelValidator() {}
+
+    /**
+     * The first constraint the primary identifier breaks, if any. Names that are not set are not checked.
+     */
+    static Optional<String> validatePrimaryIdentifier(final ResourceModel model) {
+        String violation = LOG_GROUP_NAME.check(model.getLogGroupName());
+        if (violation == null) {
+            violation = FILTER_NAME.check(model.getFilterName());
+        }
+        return Optional.ofNullable(violation);
+    }
+
+    /**
+     * Like {@link #validatePrimaryIdentifier}, for the FilterName only, which is all a generated name needs.
+     */
+    static Optional<String> validateFilterName(final ResourceModel model) {
+        return Optional.ofNullable(FILTER_NAME.check(model.getFilterName()));
+    }
+
+    /**
+     * The {@code minLength}, {@code maxLength} and {@code pattern} of a string property of the schema.
+     * Each thread reuses one matcher, reset for every value it checks.
+     */
+    static final class StringConstraint {
+        private final String property;
+        private final int minLength;
+        private final int maxLength;
+        private final Pattern pattern;
+        private final ThreadLocal<Matcher> matcher;
+
+        StringConstraint(final String property, final JSONObject schema) {
+            final JSONObject definition = schema.getJSONObject("properties").getJSONObject(property);
+            this.property = property;
+            this.minLength = definition.optInt("minLength", 0);
+            this.maxLength = definition.optInt("maxLength", Integer.MAX_VALUE);
+            final Pattern compiled = definition.has("pattern") ? Pattern.compile(definition.getString("pattern")) : null;
+            this.pattern = compiled;
+            this.matcher = compiled == null ? null : ThreadLocal.withInitial(() -> compiled.matcher(""));
+        }
+
+        String check(final String value) {
+            if (value == null) {
+                return null;
+            }
+            final int length = value.codePointCount(0, value.length());
+            if (length < minLength || length > maxLength) {
+                return String.format("%s must be between %d and %d characters long, but is %d.",
+                    property, minLength, maxLength, length);
+            }
+            if (matcher != null && !matcher.get().reset(value).matches()) {
+                return String.format("%s must match the pattern %s.", property, pattern.pattern());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.logs.metricfilter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Time spent in each stage of one handler invocation, keyed by the call graph name the stage initiates,
+ * in the order the stages first ran. A stage served from the callback context is still timed, so a
+ * replayed stage shows up with close to no time.
+ */
+final class PhaseTimings {
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    PhaseTimings() {
+        this(System::nanoTime);
+    }
+
+    PhaseTimings(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    <T> T time(final String phase, final Supplier<T> step) {
+        final long start = nanoClock.getAsLong();
+        try {
+            return step.get();
+        } finally {
+            phaseNanos.merge(phase, nanoClock.getAsLong() - start, Long::sum);
+        }
+    }
+
+    Map<String, Duration> phases() {
+        final Map<String, Duration> phases = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, nanos) -> phases.put(phase, Duration.ofNanos(nanos)));
+        return Collections.unmodifiableMap(phases);
+    }
+
+    Duration total() {
+        return Duration.ofNanos(phaseNanos.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    boolean isEmpty() {
+        return phaseNanos.isEmpty();
+    }
+
+    /**
+     * e.g. "AWS-Logs-MetricFilter::PreExistenceCheck=41ms, AWS-Logs-MetricFilter::Create=63ms, total=104ms"
+     */
+    @Override
+    public String toString() {
+        return phaseNanos.entrySet().stream()
+            .map(phase -> phase.getKey() + "=" + Duration.ofNanos(phase.getValue()).toMillis() + "ms")
+            .collect(Collectors.joining(", ", "", ", total=" + total().toMillis() + "ms"));
+    }
+}
@@ -0,0 +1,148 @@
+package software.amazon.logs.metricfilter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves the first-request costs of a new container into function init: class loading and first runs
+ * of the translator, the rpdk serializer (Jackson), the resource schema and the model validator,
+ * building the shared client, and opening a connection to the CloudWatch Logs endpoint. HandlerWrapper
+ * builds the handlers while the function initializes, which is when {@link BaseHandlerStd} triggers this.
+ *
+ * <p>Opening the connection sends a real, unsigned request to the service, so it is opt-in: it only
+ * happens when the {@value #OPEN_CONNECTION_VARIABLE} environment variable is {@code true}.
+ *
+ * <p>On snapshot/restore runtimes (Lambda SnapStart, CRaC) everything but the connection is primed
+ * before the checkpoint. A socket does not survive a snapshot, so the connection is opened after
+ * restore instead.
+ *
+ * <p>No handler logger exists during init, so if priming stops early the reason is kept and logged
+ * by the first handler invocation, see {@link #reportTo}.
+ */
+final class Priming implements Resource {
+    static final String SNAP_START = "snap-start";
+    static final String OPEN_CONNECTION_VARIABLE = "PRIMING_OPEN_CONNECTION";
+
+    // CRaC contexts only hold weak references to their resources
+    private static final Priming INSTANCE = new Priming();
+    private static final AtomicBoolean PRIMED = new AtomicBoolean();
+    private static final AtomicReference<String> FAILURE = new AtomicReference<>();
+    private static final String SAMPLE_NAME = "priming";
+
+    private Priming() {}
+
+    /**
+     * Primes once per container. Outside Lambda (unit tests, local tools) this does nothing.
+     */
+    static void onInit() {
+        if (System.getenv("AWS_LAMBDA_FUNCTION_NAME") == null || !PRIMED.compareAndSet(false, true)) {
+            return;
+        }
+        Core.getGlobalContext().register(INSTANCE);
+        prime(openConnectionEnabled() && !SNAP_START.equals(System.getenv("AWS_LAMBDA_INITIALIZATION_TYPE")));
+    }
+
+    /**
+     * Logs why priming stopped early, if it did, once per container.
+     */
+    static void reportTo(final Logger logger) {
+        final String failure = FAILURE.getAndSet(null);
+        if (failure != null) {
+            logger.log("Priming stopped early: " + failure);
+        }
+    }
+
+    /**
+     * Priming is best effort: whatever fails here is simply paid for by the first request instead.
+     */
+    static void prime(final boolean openConnection) {
+        try {
+            primeClasses();
+            final CloudWatchLogsClient client = ClientBuilder.getClient();
+            if (openConnection) {
+                openConnection(client);
+            }
+        } catch (final IOException | RuntimeException e) {
+            FAILURE.set(e.toString());
+        }
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        // nothing recorded while priming belongs to a request
+        ApiMetrics.instance().flush(line -> { });
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        if (!openConnectionEnabled()) {
+            return;
+        }
+        try {
+            openConnection(ClientBuilder.getClient());
+        } catch (final RuntimeException e) {
+            FAILURE.set(e.toString());
+        }
+    }
+
+    private static boolean openConnectionEnabled() {
+        return Boolean.parseBoolean(System.getenv(OPEN_CONNECTION_VARIABLE));
+    }
+
+    private static void primeClasses() throws IOException {
+        final ResourceModel model = ResourceModel.builder()
+            .filterName(SAMPLE_NAME)
+            .logGroupName(SAMPLE_NAME)
+            .filterPattern("")
+            .metricTransformations(Collections.singletonList(MetricTransformation.builder()
+                .metricName(SAMPLE_NAME)
+                .metricNamespace(SAMPLE_NAME)
+                .metricValue("1")
+                .build()))
+            .build();
+        Translator.translateToCreateRequest(model);
+        Translator.translateToUpdateRequest(model);
+        Translator.translateToDeleteRequest(model);
+        Translator.translateToReadRequest(model);
+        Translator.translateFromReadResponse(DescribeMetricFiltersResponse.builder()
+            .metricFilters(Translator.translateToSDK(model))
+            .build());
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+
+        new Configuration().resourceSchemaJSONObject();
+        ModelValidator.validatePrimaryIdentifier(model);
+    }
+
+    /**
+     * Sends one unsigned request, which the service rejects without acting on it. What remains is the
+     * TLS connection in the shared HTTP client's pool, ready for the first real request.
+     */
+    static void openConnection(final CloudWatchLogsClient client) {
+        try {
+            client.describeMetricFilters(DescribeMetricFiltersRequest.builder()
+                .limit(1)
+                .overrideConfiguration(configuration -> configuration.credentialsProvider(AnonymousCredentialsProvider.create()))
+                .build());
+        } catch (final SdkException e) {
+            // expected, the request is not signed
+        }
+        ApiMetrics.instance().flush(line -> { });
+    }
+}
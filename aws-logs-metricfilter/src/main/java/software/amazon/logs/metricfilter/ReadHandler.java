@@ -19,6 +19,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.Objects;
 
 public class ReadHandler extends BaseHandlerStd {
+    static final String READ = "AWS-Logs-MetricFilter::Read";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,7 +36,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         logger.log("Trying to read resource...");
 
-        return proxy.initiate("AWS-Logs-MetricFilter::Read", proxyClient, model, callbackContext)
+        return proxy.initiate(READ, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
             .makeServiceCall((awsRequest, sdkProxyClient) -> readResource(awsRequest, sdkProxyClient , model))
             .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -49,7 +51,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model) {
         DescribeMetricFiltersResponse awsResponse;
         try {
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeMetricFilters);
+            awsResponse = describeMetricFilter(awsRequest, proxyClient, logger);
         } catch (InvalidParameterException e) {
             throw new CfnInvalidRequestException(e);
         } catch (ResourceNotFoundException e) {
@@ -7,11 +7,15 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterReque
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Translator {
+  // DescribeMetricFilters results are ASCII-sorted by filter name, so an exact name is always the
+  // first result for its own prefix and a single item per page is enough to find it
+  static final int READ_PAGE_SIZE = 1;
 
   static software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation translateMetricTransformationToSdk
           (final software.amazon.logs.metricfilter.MetricTransformation metricTransformation) {
@@ -107,10 +111,17 @@ public class Translator {
     return DescribeMetricFiltersRequest.builder()
             .filterNamePrefix(model.getFilterName())
             .logGroupName(model.getLogGroupName())
-            .limit(1)
+            .limit(READ_PAGE_SIZE)
             .build();
   }
 
+  static Optional<software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter> findMetricFilter
+          (final DescribeMetricFiltersResponse awsResponse, final String filterName) {
+    return streamOfOrEmpty(awsResponse.metricFilters())
+            .filter(metricFilter -> Objects.equals(metricFilter.filterName(), filterName))
+            .findFirst();
+  }
+
   static ResourceModel translateFromReadResponse(final DescribeMetricFiltersResponse awsResponse) {
     return awsResponse.metricFilters()
             .stream()
@@ -130,8 +141,11 @@ public class Translator {
     return translateToCreateRequest(model);
   }
 
-  static DescribeMetricFiltersRequest translateToListRequest(final String nextToken) {
+  static DescribeMetricFiltersRequest translateToListRequest(final String logGroupName, final String filterNamePrefix,
+                                                            final String nextToken) {
     return DescribeMetricFiltersRequest.builder()
+            .logGroupName(logGroupName)
+            .filterNamePrefix(filterNamePrefix)
             .nextToken(nextToken)
             .limit(50)
             .build();
@@ -22,9 +22,22 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Objects;
+import java.util.function.Supplier;
+
 public class UpdateHandler extends BaseHandlerStd {
+    static final String UPDATE = "AWS-Logs-MetricFilter::Update";
+
     private Logger logger;
 
+    public UpdateHandler() {
+        super();
+    }
+
+    UpdateHandler(final Supplier<Deadline> deadlines) {
+        super(deadlines);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -49,20 +62,34 @@ public class UpdateHandler extends BaseHandlerStd {
                 }
                 return progress;
             })
-            .then(progress ->
-                preCreateCheck(proxy, callbackContext, proxyClient, model)
-                    .done((response) -> {
-                        if (response.metricFilters().isEmpty()) {
+            .then(progress -> stage(PRE_EXISTENCE_CHECK, progress, logger, p ->
+                preCreateCheck(proxy, callbackContext, proxyClient, model, logger)
+                    .done((exists) -> {
+                        if (exists == null) {
+                            return checkpoint(model, callbackContext, logger);
+                        }
+                        if (!exists) {
                             return ProgressEvent.defaultFailureHandler(new CfnNotFoundException(null), HandlerErrorCode.NotFound);
                         }
                         return ProgressEvent.progress(model, callbackContext);
                     })
-            )
-            .then(progress -> proxy.initiate("AWS-Logs-MetricFilter::Update", proxyClient, model, callbackContext)
+            ))
+            // a checkpoint from the existence scan has to reach the caller before a no-op can succeed
+            .then(progress -> withinDeadline(progress, logger, p -> {
+                if (isUnchanged(model, previousModel)) {
+                    this.logger.log(String.format("%s [%s] has no effective changes, skipping update.",
+                            ResourceModel.TYPE_NAME, model.getFilterName()));
+                    return ProgressEvent.defaultSuccessHandler(model);
+                }
+                return p;
+            }))
+            .then(progress -> stage(UPDATE, progress, logger, p ->
+                proxy.initiate(UPDATE, proxyClient, model, callbackContext)
                     .translateToServiceRequest(Translator::translateToUpdateRequest)
                     .makeServiceCall(this::updateResource)
-                    .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                    .progress()))
+            .then(progress -> stage(ReadHandler.READ, progress, logger, p ->
+                new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private boolean isUpdatable(final ResourceModel model, final ResourceModel previousModel) {
@@ -76,6 +103,24 @@ public class UpdateHandler extends BaseHandlerStd {
         return true;
     }
 
+    /**
+     * Stack updates often re-send a metric filter whose properties did not change. When the desired
+     * model matches the previous one there is nothing to put or read back, so once the existence check
+     * has confirmed the filter is still there, the update succeeds without PutMetricFilter. A filter
+     * deleted out of band still fails with NotFound.
+     * The filter pattern is compared the way the API stores it: a missing pattern is the same as "".
+     */
+    private boolean isUnchanged(final ResourceModel model, final ResourceModel previousModel) {
+        return previousModel != null
+                && Objects.equals(normalizeFilterPattern(model.getFilterPattern()),
+                        normalizeFilterPattern(previousModel.getFilterPattern()))
+                && Objects.equals(model.getMetricTransformations(), previousModel.getMetricTransformations());
+    }
+
+    private static String normalizeFilterPattern(final String filterPattern) {
+        return filterPattern == null ? "" : filterPattern;
+    }
+
     private PutMetricFilterResponse updateResource(
         final PutMetricFilterRequest awsRequest,
         final ProxyClient<CloudWatchLogsClient> proxyClient) {
@@ -0,0 +1,173 @@
+package software.amazon.logs.metricfilter;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entrypoint of the native executable built by the {@code native} profile, for the {@code provided.al2}
+ * custom runtime. It builds the {@link HandlerWrapper} once, then takes invocations from the Lambda
+ * Runtime API one at a time and passes each to the wrapper, the way the managed Java runtime would.
+ * {@code _HANDLER} ending in {@code ::testEntrypoint} selects the test entrypoint instead.
+ */
+public final class NativeRuntime {
+    private static final String API_VERSION = "2018-06-01";
+    private static final String TEST_ENTRYPOINT = "::testEntrypoint";
+
+    private NativeRuntime() {}
+
+    public static void main(final String[] args) throws IOException {
+        final String runtimeApi = "http://" + System.getenv("AWS_LAMBDA_RUNTIME_API") + "/" + API_VERSION + "/runtime";
+        final boolean testEntrypoint = String.valueOf(System.getenv("_HANDLER")).endsWith(TEST_ENTRYPOINT);
+
+        final HandlerWrapper wrapper;
+        try {
+            wrapper = new HandlerWrapper();
+        } catch (final RuntimeException e) {
+            post(runtimeApi + "/init/error", error(e));
+            throw e;
+        }
+
+        while (true) {
+            final HttpURLConnection next = (HttpURLConnection) new URL(runtimeApi + "/invocation/next").openConnection();
+            final byte[] event = readAll(next.getInputStream());
+            final String requestId = next.getHeaderField("Lambda-Runtime-Aws-Request-Id");
+            final RuntimeContext context = new RuntimeContext(requestId,
+                Long.parseLong(next.getHeaderField("Lambda-Runtime-Deadline-Ms")),
+                next.getHeaderField("Lambda-Runtime-Invoked-Function-Arn"));
+
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+            try {
+                if (testEntrypoint) {
+                    wrapper.testEntrypoint(new ByteArrayInputStream(event), response, context);
+                } else {
+                    wrapper.handleRequest(new ByteArrayInputStream(event), response, context);
+                }
+                post(runtimeApi + "/invocation/" + requestId + "/response", response.toByteArray());
+            } catch (final IOException | RuntimeException e) {
+                post(runtimeApi + "/invocation/" + requestId + "/error", error(e));
+            }
+        }
+    }
+
+    private static void post(final String url, final byte[] body) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        readAll(connection.getInputStream());
+    }
+
+    private static byte[] error(final Exception e) {
+        return new JSONObject()
+            .put("errorType", e.getClass().getName())
+            .put("errorMessage", String.valueOf(e.getMessage()))
+            .toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        try (InputStream input = in) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class RuntimeContext implements Context {
+        private final String requestId;
+        private final long deadlineMillis;
+        private final String invokedFunctionArn;
+
+        private RuntimeContext(final String requestId, final long deadlineMillis, final String invokedFunctionArn) {
+            this.requestId = requestId;
+            this.deadlineMillis = deadlineMillis;
+            this.invokedFunctionArn = invokedFunctionArn;
+        }
+
+        @Override
+        public String getAwsRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+        }
+
+        @Override
+        public String getFunctionName() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return invokedFunctionArn;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Math.max(0, deadlineMillis - System.currentTimeMillis());
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            // set by Lambda, but not by every local emulator
+            final String memorySize = System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE");
+            return memorySize == null ? 0 : Integer.parseInt(memorySize);
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            // stdout is the function's log stream on a custom runtime
+            return new LambdaLogger() {
+                @Override
+                public void log(final String message) {
+                    System.out.println(message);
+                }
+
+                // declared by newer versions of the interface only
+                public void log(final byte[] message) {
+                    System.out.println(new String(message, StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package software.amazon.logs.metricfilter;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.OperationAbortedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.logs.testing.CloudWatchLogsEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApiMetricsTest {
+    private final List<String> lines = new ArrayList<>();
+
+    private CloudWatchLogsEmulator emulator;
+    private CloudWatchLogsClient client;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeAll
+    public static void setupRegion() {
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), CloudWatchLogsEmulator.REGION);
+        }
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        emulator = CloudWatchLogsEmulator.start();
+        client = ClientBuilder.getClient(emulator.endpoint());
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+        // drop whatever other tests recorded through the shared recorder
+        ApiMetrics.instance().flush(line -> { });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        emulator.close();
+    }
+
+    @Test
+    public void flush_LogsOneEmfLinePerOperation() {
+        proxy.injectCredentialsAndInvokeV2(CreateLogGroupRequest.builder().logGroupName("group").build(), client::createLogGroup);
+        describe();
+        describe();
+
+        ApiMetrics.instance().flush(lines::add);
+
+        assertThat(lines).hasSize(2);
+        final JSONObject describe = emf("DescribeLogGroups");
+        final JSONObject directive = describe.getJSONObject("_aws").getJSONArray("CloudWatchMetrics").getJSONObject(0);
+        assertThat(directive.getString("Namespace")).isEqualTo(ApiMetrics.NAMESPACE);
+        assertThat(directive.getJSONArray("Dimensions").getJSONArray(0).toList()).containsExactly("ResourceType", "Operation");
+        assertThat(describe.getString("ResourceType")).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(describe.getLong("Calls")).isEqualTo(2);
+        assertThat(describe.getLong("Errors")).isEqualTo(0);
+        assertThat(describe.getLong("Retries")).isEqualTo(0);
+        assertThat(describe.getLong("Throttles")).isEqualTo(0);
+
+        final JSONObject latency = describe.getJSONObject("Latency");
+        assertThat(latency.getLong("Count")).isEqualTo(2);
+        assertThat(sum(latency.getJSONArray("Counts"))).isEqualTo(2);
+        assertThat(latency.getDouble("Min")).isLessThanOrEqualTo(latency.getDouble("Max"));
+        assertThat(emf("CreateLogGroup").getLong("Calls")).isEqualTo(1);
+    }
+
+    @Test
+    public void flush_CountsRetriedThrottles() {
+        emulator.failNext("DescribeLogGroups", CloudWatchLogsEmulator.THROTTLING, 1);
+
+        describe();
+        ApiMetrics.instance().flush(lines::add);
+
+        final JSONObject describe = emf("DescribeLogGroups");
+        assertThat(describe.getLong("Calls")).isEqualTo(1);
+        assertThat(describe.getLong("Errors")).isEqualTo(0);
+        assertThat(describe.getLong("Retries")).isEqualTo(1);
+        assertThat(describe.getLong("Throttles")).isEqualTo(1);
+        assertThat(emulator.requestCount("DescribeLogGroups")).isEqualTo(2);
+    }
+
+    @Test
+    public void flush_CountsFailedCalls() {
+        emulator.failNext("DescribeLogGroups", CloudWatchLogsEmulator.OPERATION_ABORTED, 1);
+
+        assertThrows(OperationAbortedException.class, this::describe);
+        ApiMetrics.instance().flush(lines::add);
+
+        final JSONObject describe = emf("DescribeLogGroups");
+        assertThat(describe.getLong("Calls")).isEqualTo(1);
+        assertThat(describe.getLong("Errors")).isEqualTo(1);
+        assertThat(describe.getLong("Retries")).isEqualTo(0);
+        assertThat(describe.getLong("Throttles")).isEqualTo(0);
+    }
+
+    @Test
+    public void flush_StartsOverAfterEachFlush() {
+        describe();
+        ApiMetrics.instance().flush(lines::add);
+        lines.clear();
+
+        ApiMetrics.instance().flush(lines::add);
+
+        assertThat(lines).isEmpty();
+    }
+
+    private void describe() {
+        proxy.injectCredentialsAndInvokeV2(DescribeLogGroupsRequest.builder().build(), client::describeLogGroups);
+    }
+
+    private JSONObject emf(final String operation) {
+        return lines.stream()
+                .map(JSONObject::new)
+                .filter(line -> operation.equals(line.getString("Operation")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no EMF line for " + operation + " in " + lines));
+    }
+
+    private static long sum(final JSONArray counts) {
+        long sum = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            sum += counts.getLong(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,131 @@
+package software.amazon.logs.metricfilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.logs.testing.CloudWatchLogsEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the handler chains end to end against {@link CloudWatchLogsEmulator} instead of a mocked client.
+ */
+public class CloudWatchLogsEmulatorTest extends AbstractTestBase {
+    private CloudWatchLogsEmulator emulator;
+    private CloudWatchLogsClient sdkClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
+
+    @BeforeAll
+    public static void setupRegion() {
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), CloudWatchLogsEmulator.REGION);
+        }
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        emulator = CloudWatchLogsEmulator.start();
+        sdkClient = ClientBuilder.getClient(emulator.endpoint());
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        proxy.injectCredentialsAndInvokeV2(CreateLogGroupRequest.builder()
+                .logGroupName(buildDefaultModel().getLogGroupName())
+                .build(), sdkClient::createLogGroup);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        sdkClient.close();
+        emulator.close();
+    }
+
+    @Test
+    public void handlers_RoundTrip() {
+        final ResourceModel model = buildDefaultModel();
+
+        assertThat(create(model).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read(model).getResourceModel()).isEqualTo(model);
+
+        final ResourceModel updated = buildDefaultModel();
+        updated.setFilterPattern("[updated]");
+        final ProgressEvent<ResourceModel, CallbackContext> updateResponse = new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .previousResourceState(model)
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+        assertThat(updateResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updateResponse.getResourceModel()).isEqualTo(updated);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleteResponse = new DeleteHandler().handleRequest(proxy,
+                request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(deleteResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThatThrownBy(() -> read(model)).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void createHandler_PrefixSiblingDoesNotConflict() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel sibling = buildDefaultModel();
+        sibling.setFilterName(model.getFilterName() + "-5xx");
+
+        assertThat(create(sibling).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(create(model).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> duplicate = create(model);
+        assertThat(duplicate.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(duplicate.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+    }
+
+    @Test
+    public void readHandler_ThrottlingIsRetried() {
+        final ResourceModel model = buildDefaultModel();
+        create(model);
+        emulator.failNext("DescribeMetricFilters", CloudWatchLogsEmulator.THROTTLING, 2);
+
+        assertThat(read(model).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(emulator.requestCount("DescribeMetricFilters")).isEqualTo(4);
+    }
+
+    @Test
+    public void createHandler_QuotaExceeded() {
+        emulator.withMetricFilterQuota(1);
+        final ResourceModel other = buildDefaultModel();
+        other.setFilterName("other");
+        create(other);
+
+        assertThatThrownBy(() -> create(buildDefaultModel()))
+                .isInstanceOf(CfnServiceLimitExceededException.class);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final ResourceModel model) {
+        return new CreateHandler().handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> read(final ResourceModel model) {
+        return new ReadHandler().handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package software.amazon.logs.metricfilter;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationTest {
+    @Test
+    public void resourceSchemaJSONObject_IsParsedOncePerContainer() {
+        final JSONObject schema = new Configuration().resourceSchemaJSONObject();
+
+        assertThat(new Configuration().resourceSchemaJSONObject()).isSameAs(schema);
+        assertThat(schema.similar(Configuration.parseSchema())).isTrue();
+    }
+}
@@ -3,6 +3,7 @@ package software.amazon.logs.metricfilter;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -98,7 +100,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
-        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
         verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
     }
 
@@ -138,7 +140,145 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReplayedChain_ServesPreExistenceCheckFromContext() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Collections.emptyList())
+                        .build());
+        when(proxyClient.client().putMetricFilter(any(PutMetricFilterRequest.class)))
+                .thenReturn(PutMetricFilterResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        // the context keeps only the existence flag, which is enough to replay the chain
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Success_ReadAfterCreate() {
+        final CreateHandler verifyingHandler = new CreateHandler(true);
+        final ResourceModel model = buildDefaultModel();
+
+        final DescribeMetricFiltersResponse preCreateResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Collections.emptyList())
+                .build();
+
+        final DescribeMetricFiltersResponse postCreateResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(model))
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(preCreateResponse)
+                .thenReturn(postCreateResponse);
+
+        when(proxyClient.client().putMetricFilter(any(PutMetricFilterRequest.class)))
+                .thenReturn(PutMetricFilterResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = verifyingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(verifyingHandler.getPhaseTimings().phases().keySet()).containsExactly(
+                BaseHandlerStd.PRE_EXISTENCE_CHECK, CreateHandler.CREATE, ReadHandler.READ);
+        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Success_PrefixSiblingExists() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel sibling = buildDefaultModel();
+        sibling.setFilterName(model.getFilterName() + "-5xx");
+
+        final DescribeMetricFiltersResponse preCreateResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(sibling))
+                .build();
+
+        final DescribeMetricFiltersResponse postCreateResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(model))
+                .build();
+
+        // a filter whose name only starts with the desired name must not block the create
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(preCreateResponse)
+                .thenReturn(postCreateResponse);
+
+        when(proxyClient.client().putMetricFilter(any(PutMetricFilterRequest.class)))
+                .thenReturn(PutMetricFilterResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TimeBudgetReachedMidScan_CheckpointsAndResumes() {
+        final AtomicLong clock = new AtomicLong();
+        final CreateHandler handler = new CreateHandler(false, () -> Deadline.start(Duration.ofSeconds(1), clock::get));
+        final ResourceModel model = buildDefaultModel();
+
+        // the first page is slow and holds neither the filter nor a prefix sibling, so the scan has to go on
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenAnswer(invocation -> {
+                    clock.addAndGet(Duration.ofSeconds(2).toNanos());
+                    return DescribeMetricFiltersResponse.builder()
+                            .metricFilters(Collections.emptyList())
+                            .nextToken("page-2")
+                            .build();
+                })
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Collections.emptyList())
+                        .build());
+        when(proxyClient.client().putMetricFilter(any(PutMetricFilterRequest.class)))
+                .thenReturn(PutMetricFilterResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.CHECKPOINT_CALLBACK_DELAY_SECONDS);
+        assertThat(first.getCallbackContext().getPreExistenceCheckToken()).isEqualTo("page-2");
+        assertThat(first.getCallbackContext().getDeadlineCheckpoints()).isEqualTo(1);
+
+        // the next invocation starts with a fresh budget and resumes the scan at the saved page
+        clock.set(0);
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy, request, first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client()).describeMetricFilters(
+                ArgumentMatchers.<DescribeMetricFiltersRequest>argThat(awsRequest -> "page-2".equals(awsRequest.nextToken())));
         verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
     }
 
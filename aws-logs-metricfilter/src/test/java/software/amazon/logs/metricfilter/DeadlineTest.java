@@ -0,0 +1,44 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineTest {
+    @Test
+    public void functionTimeout_ReadsSeconds() {
+        assertThat(Deadline.functionTimeout("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(Deadline.functionTimeout(" 30 ")).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void functionTimeout_FallsBackToDefault() {
+        assertThat(Deadline.functionTimeout(null)).isEqualTo(Deadline.DEFAULT_FUNCTION_TIMEOUT);
+        assertThat(Deadline.functionTimeout("")).isEqualTo(Deadline.DEFAULT_FUNCTION_TIMEOUT);
+        assertThat(Deadline.functionTimeout("0")).isEqualTo(Deadline.DEFAULT_FUNCTION_TIMEOUT);
+        assertThat(Deadline.functionTimeout("1m")).isEqualTo(Deadline.DEFAULT_FUNCTION_TIMEOUT);
+    }
+
+    @Test
+    public void budget_KeepsAMarginScaledToTheTimeout() {
+        assertThat(Deadline.budget(Duration.ofSeconds(20))).isEqualTo(Duration.ofSeconds(15));
+        assertThat(Deadline.budget(Duration.ofSeconds(60))).isEqualTo(Duration.ofSeconds(45));
+        assertThat(Deadline.budget(Duration.ofSeconds(900))).isEqualTo(Duration.ofSeconds(885));
+    }
+
+    @Test
+    public void isExpired_AfterTheBudget() {
+        final AtomicLong clock = new AtomicLong();
+        final Deadline deadline = Deadline.start(Duration.ofSeconds(1), clock::get);
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofSeconds(1));
+
+        clock.set(Duration.ofSeconds(1).toNanos());
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+    }
+}
@@ -3,6 +3,10 @@ package software.amazon.logs.metricfilter;
 import org.mockito.ArgumentMatchers;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -15,10 +19,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,11 +64,12 @@ public class ListHandlerTest {
                 .metricFilters(Translator.translateToSDK(model))
                 .build();
 
-        when(proxy.injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeMetricFiltersRequest.class), any()))
+        when(proxy.injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest(null, null, null)), any()))
                 .thenReturn(describeResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-            .desiredResourceState(model)
+            .desiredResourceState(ResourceModel.builder().build())
             .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -70,8 +80,111 @@ public class ListHandlerTest {
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).containsExactly(model);
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_ScopedToLogGroupAndFilterPrefix() {
+        final ResourceModel scope = ResourceModel.builder()
+                .logGroupName("group")
+                .filterName("filter-1")
+                .build();
+        final DescribeMetricFiltersResponse describeResponse = metricFilters("group", 1).toBuilder()
+                .nextToken("next")
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest("group", "filter-1", "token")), any()))
+                .thenReturn(describeResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(scope)
+                        .nextToken("token")
+                        .build(),
+                null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("next");
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeMetricFiltersRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_ScopedToLogGroupOnly() {
+        final ResourceModel scope = ResourceModel.builder()
+                .logGroupName("group")
+                .filterName("")
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest("group", null, null)), any()))
+                .thenReturn(metricFilters("group", 3));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(scope).build(), null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ScopedToMissingLogGroup() {
+        final ResourceModel scope = ResourceModel.builder()
+                .logGroupName("missing")
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeMetricFiltersRequest.class), any()))
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(scope).build(), null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_AccountWidePassesTokenThrough() {
+        when(proxy.injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest(null, null, "token")), any()))
+                .thenReturn(metricFilters("group", 50).toBuilder().nextToken("next").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().nextToken("token").build(), null, logger);
+
+        // one page per invocation, however many log groups the account has
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(50);
+        assertThat(response.getNextToken()).isEqualTo("next");
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeMetricFiltersRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_InvalidParameter() {
+        when(proxy.injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeMetricFiltersRequest.class), any()))
+                .thenThrow(InvalidParameterException.class);
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().build(), null, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    private static DescribeMetricFiltersResponse metricFilters(final String logGroupName, final int count) {
+        final List<MetricFilter> metricFilters = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    final ResourceModel model = AbstractTestBase.buildDefaultModel();
+                    model.setLogGroupName(logGroupName);
+                    model.setFilterName("filter-" + i);
+                    return Translator.translateToSDK(model);
+                })
+                .collect(Collectors.toList());
+        return DescribeMetricFiltersResponse.builder()
+                .metricFilters(metricFilters)
+                .build();
+    }
 }
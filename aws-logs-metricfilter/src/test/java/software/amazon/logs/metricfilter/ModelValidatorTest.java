@@ -0,0 +1,86 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelValidatorTest extends AbstractTestBase {
+    private static String repeat(final char c, final int times) {
+        return new String(new char[times]).replace('\0', c);
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_ValidModel() {
+        assertThat(ModelValidator.validatePrimaryIdentifier(buildDefaultModel())).isEmpty();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_UnsetNames_AreNotChecked() {
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterName(null);
+        model.setLogGroupName(null);
+
+        assertThat(ModelValidator.validatePrimaryIdentifier(model)).isEmpty();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_FilterNameWithInvalidCharacter() {
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterName("*filter-name");
+
+        final Optional<String> violation = ModelValidator.validatePrimaryIdentifier(model);
+
+        assertThat(violation).isPresent();
+        assertThat(violation.get()).startsWith("FilterName must match the pattern");
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_WholeNameHasToMatch() {
+        // the schema patterns are only anchored at the start, but the service checks every character
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterName("filter*name");
+
+        assertThat(ModelValidator.validatePrimaryIdentifier(model)).isPresent();
+
+        model.setFilterName("filter-name");
+        model.setLogGroupName("log group name");
+        assertThat(ModelValidator.validatePrimaryIdentifier(model)).isPresent();
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_FilterNameTooLong() {
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterName(repeat('a', 513));
+
+        assertThat(ModelValidator.validatePrimaryIdentifier(model))
+            .contains("FilterName must be between 1 and 512 characters long, but is 513.");
+    }
+
+    @Test
+    public void validatePrimaryIdentifier_IgnoresOtherProperties() {
+        // everything but the names is left to the wrapper's schema validation
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterPattern(repeat('a', 1025));
+        model.getMetricTransformations().get(0).setMetricNamespace(" namespace");
+
+        assertThat(ModelValidator.validatePrimaryIdentifier(model)).isEmpty();
+    }
+
+    @Test
+    public void validateFilterName_GeneratedNameWithInvalidCharacter() {
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterName("logical:id-ABC123");
+
+        assertThat(ModelValidator.validateFilterName(model)).isPresent();
+    }
+
+    @Test
+    public void validateFilterName_IgnoresLogGroupName() {
+        final ResourceModel model = buildDefaultModel();
+        model.setLogGroupName("log group name");
+
+        assertThat(ModelValidator.validateFilterName(model)).isEmpty();
+    }
+}
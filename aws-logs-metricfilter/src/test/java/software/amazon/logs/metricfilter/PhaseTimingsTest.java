@@ -0,0 +1,42 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PhaseTimingsTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final PhaseTimings timings = new PhaseTimings(clock::get);
+
+    @Test
+    public void time_KeepsPhasesInOrderAndAddsUpRepeats() {
+        timings.time("check", () -> clock.addAndGet(Duration.ofMillis(40).toNanos()));
+        timings.time("put", () -> clock.addAndGet(Duration.ofMillis(60).toNanos()));
+        timings.time("check", () -> clock.addAndGet(Duration.ofMillis(2).toNanos()));
+
+        assertThat(timings.phases().keySet()).containsExactly("check", "put");
+        assertThat(timings.phases().get("check")).isEqualTo(Duration.ofMillis(42));
+        assertThat(timings.total()).isEqualTo(Duration.ofMillis(102));
+        assertThat(timings.toString()).isEqualTo("check=42ms, put=60ms, total=102ms");
+    }
+
+    @Test
+    public void time_FailedPhaseIsTimed() {
+        assertThrows(IllegalStateException.class, () -> timings.time("put", () -> {
+            clock.addAndGet(Duration.ofMillis(5).toNanos());
+            throw new IllegalStateException();
+        }));
+
+        assertThat(timings.phases().get("put")).isEqualTo(Duration.ofMillis(5));
+    }
+
+    @Test
+    public void phases_EmptyBeforeAnyStage() {
+        assertThat(timings.isEmpty()).isTrue();
+        assertThat(timings.total()).isEqualTo(Duration.ZERO);
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.logs.testing.CloudWatchLogsEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class PrimingTest {
+    private CloudWatchLogsEmulator emulator;
+    private CloudWatchLogsClient client;
+
+    @BeforeAll
+    public static void setupRegion() {
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), CloudWatchLogsEmulator.REGION);
+        }
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        emulator = CloudWatchLogsEmulator.start();
+        client = ClientBuilder.getClient(emulator.endpoint());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        emulator.close();
+    }
+
+    @Test
+    public void openConnection_SendsOneRequestAndRecordsNoMetrics() {
+        Priming.openConnection(client);
+
+        final List<String> lines = new ArrayList<>();
+        ApiMetrics.instance().flush(lines::add);
+
+        assertThat(emulator.requestCount("DescribeMetricFilters")).isEqualTo(1);
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void reportTo_NothingToReport_LogsNothing() {
+        final Logger logger = mock(Logger.class);
+
+        Priming.reportTo(logger);
+
+        verifyZeroInteractions(logger);
+    }
+
+    @Test
+    public void prime_WithoutConnection_MakesNoRequest() {
+        Priming.prime(false);
+
+        assertThat(ClientBuilder.getClient()).isNotNull();
+        assertThat(emulator.requestCount("DescribeMetricFilters")).isEqualTo(0);
+    }
+}
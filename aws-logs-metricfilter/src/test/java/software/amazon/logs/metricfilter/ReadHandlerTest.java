@@ -87,6 +87,59 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
     }
 
+    @Test
+    public void handleRequest_Success_AfterEmptyPage() {
+        final ResourceModel model = buildDefaultModel();
+
+        final DescribeMetricFiltersResponse emptyPage = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Collections.emptyList())
+                .nextToken("token")
+                .build();
+
+        final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(model))
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(emptyPage)
+                .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OnlyPrefixSibling_NotFound() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel sibling = buildDefaultModel();
+        sibling.setFilterName(model.getFilterName() + "-5xx");
+
+        final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(sibling))
+                .nextToken("token")
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnNotFoundException.class);
+        // the sibling sorts after the exact name, so there is no need to read the next page
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+    }
+
     @Test
     public void handleRequest_ResponseIsEmpty() {
         final ResourceModel model = buildDefaultModel();
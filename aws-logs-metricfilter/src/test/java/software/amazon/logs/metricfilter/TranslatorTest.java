@@ -160,7 +160,7 @@ public class TranslatorTest {
         final DescribeMetricFiltersRequest expectedRequest = DescribeMetricFiltersRequest.builder()
                 .logGroupName("LogGroup")
                 .filterNamePrefix("FilterName")
-                .limit(1)
+                .limit(Translator.READ_PAGE_SIZE)
                 .build();
 
         final DescribeMetricFiltersRequest actualRequest = Translator.translateToReadRequest(RESOURCE_MODEL);
@@ -168,14 +168,29 @@ public class TranslatorTest {
         assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
     }
 
+    @Test
+    public void findMetricFilter_exactMatchOnly() {
+        final MetricFilter sibling = METRIC_FILTER.toBuilder()
+                .filterName("Filter-5xx")
+                .build();
+        final DescribeMetricFiltersResponse response = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Arrays.asList(sibling, METRIC_FILTER))
+                .build();
+
+        assertThat(Translator.findMetricFilter(response, "Filter")).contains(METRIC_FILTER);
+        assertThat(Translator.findMetricFilter(response, "Filt")).isEmpty();
+    }
+
     @Test
     public void translateToListRequest() {
         final DescribeMetricFiltersRequest expectedRequest = DescribeMetricFiltersRequest.builder()
+                .logGroupName("LogGroup")
+                .filterNamePrefix("Filter")
                 .limit(50)
                 .nextToken("token")
                 .build();
 
-        final DescribeMetricFiltersRequest actualRequest = Translator.translateToListRequest( "token");
+        final DescribeMetricFiltersRequest actualRequest = Translator.translateToListRequest("LogGroup", "Filter", "token");
 
         assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
     }
@@ -2,6 +2,7 @@ package software.amazon.logs.metricfilter;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
@@ -30,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -85,12 +87,154 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(handler.getPhaseTimings().phases().keySet()).containsExactly(
+                BaseHandlerStd.PRE_EXISTENCE_CHECK, UpdateHandler.UPDATE, ReadHandler.READ);
         verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
         verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(sdkClient);
     }
 
+    @Test
+    public void handleRequest_NoChange_SkipsPut() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel previousModel = buildDefaultModel();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Translator.translateToSDK(model))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_NoChange_FilterDeleted_NotFound() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel previousModel = buildDefaultModel();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Collections.emptyList())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_NoChange_TimeBudgetReachedMidScan_ResumesToNotFound() {
+        final AtomicLong clock = new AtomicLong();
+        final UpdateHandler handler = new UpdateHandler(() -> Deadline.start(Duration.ofSeconds(1), clock::get));
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel previousModel = buildDefaultModel();
+
+        // the first page is slow and does not hold the filter, so the scan has to go on
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenAnswer(invocation -> {
+                    clock.addAndGet(Duration.ofSeconds(2).toNanos());
+                    return DescribeMetricFiltersResponse.builder()
+                            .metricFilters(Collections.emptyList())
+                            .nextToken("page-2")
+                            .build();
+                })
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Collections.emptyList())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.CHECKPOINT_CALLBACK_DELAY_SECONDS);
+        assertThat(first.getCallbackContext().getPreExistenceCheckToken()).isEqualTo("page-2");
+
+        clock.set(0);
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy, request, first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(second.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), never()).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChange_EmptyAndMissingFilterPattern() {
+        final ResourceModel model = buildDefaultModel();
+        model.setFilterPattern("");
+        final ResourceModel previousModel = buildDefaultModel();
+        previousModel.setFilterPattern(null);
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Translator.translateToSDK(model))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_MetricTransformationChanged_Updates() {
+        final ResourceModel model = buildDefaultModel();
+        final ResourceModel previousModel = buildDefaultModel();
+        previousModel.getMetricTransformations().get(0).setMetricValue("1");
+
+        when(proxyClient.client().putMetricFilter(ArgumentMatchers.any(PutMetricFilterRequest.class)))
+                .thenReturn(PutMetricFilterResponse.builder().build());
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(Translator.translateToSDK(model))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
     @Test
     public void handleRequest_FilterNameDoesNotMatch_NotUpdatable() {
         final ResourceModel model = buildDefaultModel();
@@ -0,0 +1,433 @@
+package software.amazon.logs.testing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for CloudWatch Logs that serves the service's JSON protocol on a local port,
+ * backed by in-memory log groups and metric filters. Point a client at it with each module's
+ * {@code ClientBuilder.getClient(URI)} to load-test the handlers without an AWS account. The tests and
+ * benchmarks of both modules share this one copy, which their poms add as a test source root.
+ *
+ * <p>Paging tokens, prefix matching, name ordering and the per-account quotas follow the service.
+ * Every request can be delayed by a fixed latency, and {@code ThrottlingException} or
+ * {@code OperationAbortedException} can be injected either for the next few calls of an operation
+ * or at random for a fraction of all calls.
+ */
+public class CloudWatchLogsEmulator implements AutoCloseable {
+    public static final String THROTTLING = "ThrottlingException";
+    public static final String OPERATION_ABORTED = "OperationAbortedException";
+
+    public static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+
+    private static final String TARGET_PREFIX = "Logs_20140328.";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_NAME_LENGTH = 512;
+    private static final Pattern LOG_GROUP_NAME = Pattern.compile("[.\\-_/#A-Za-z0-9]+");
+    private static final Set<Integer> RETENTION_DAYS = new HashSet<>(Arrays.asList(
+            1, 3, 5, 7, 14, 30, 60, 90, 120, 150, 180, 365, 400, 545, 731, 1827, 3653));
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private final NavigableMap<String, LogGroupState> logGroups = new TreeMap<>();
+    private final Deque<Fault> faults = new ArrayDeque<>();
+    private final Random random = new Random(0);
+    private double throttleRatio;
+    private int logGroupQuota = 1_000_000;
+    private int metricFilterQuota = 100;
+
+    private volatile Duration latency = Duration.ZERO;
+
+    private CloudWatchLogsEmulator() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts an emulator on a free loopback port.
+     */
+    public static CloudWatchLogsEmulator start() throws IOException {
+        final CloudWatchLogsEmulator emulator = new CloudWatchLogsEmulator();
+        emulator.server.start();
+        return emulator;
+    }
+
+    public URI endpoint() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    public CloudWatchLogsEmulator withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized CloudWatchLogsEmulator withLogGroupQuota(final int logGroupQuota) {
+        this.logGroupQuota = logGroupQuota;
+        return this;
+    }
+
+    public synchronized CloudWatchLogsEmulator withMetricFilterQuota(final int metricFilterQuota) {
+        this.metricFilterQuota = metricFilterQuota;
+        return this;
+    }
+
+    /**
+     * Throttles roughly {@code ratio} of all requests, for soak tests of the retry policy.
+     */
+    public synchronized CloudWatchLogsEmulator withThrottleRatio(final double ratio) {
+        this.throttleRatio = ratio;
+        return this;
+    }
+
+    /**
+     * Fails the next {@code times} calls to {@code operation} (e.g. "DescribeLogGroups") with
+     * {@code errorType}. Faults queued for the same operation are used up in order.
+     */
+    public synchronized CloudWatchLogsEmulator failNext(final String operation, final String errorType, final int times) {
+        faults.add(new Fault(operation, errorType, times));
+        return this;
+    }
+
+    /**
+     * The number of requests received for {@code operation}, including failed ones.
+     */
+    public int requestCount(final String operation) {
+        final AtomicInteger count = requestCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+        final String operation = target != null && target.startsWith(TARGET_PREFIX)
+                ? target.substring(TARGET_PREFIX.length()) : String.valueOf(target);
+        requestCounts.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+
+        try {
+            delay();
+            final JsonNode body = MAPPER.readTree(exchange.getRequestBody());
+            final JsonNode request = body == null || body.isMissingNode() ? MAPPER.createObjectNode() : body;
+            respond(exchange, 200, dispatch(operation, request));
+        } catch (final ServiceException e) {
+            exchange.getResponseHeaders().set("x-amzn-ErrorType", e.type);
+            respond(exchange, 400, MAPPER.createObjectNode()
+                    .put("__type", e.type)
+                    .put("message", e.getMessage()));
+        } catch (final IOException | RuntimeException e) {
+            respond(exchange, 500, MAPPER.createObjectNode()
+                    .put("__type", "ServiceUnavailableException")
+                    .put("message", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void delay() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final JsonNode body) throws IOException {
+        final byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private synchronized JsonNode dispatch(final String operation, final JsonNode request) {
+        injectFault(operation);
+        switch (operation) {
+            case "CreateLogGroup":
+                return createLogGroup(request);
+            case "DeleteLogGroup":
+                return deleteLogGroup(request);
+            case "DescribeLogGroups":
+                return describeLogGroups(request);
+            case "PutRetentionPolicy":
+                return putRetentionPolicy(request);
+            case "DeleteRetentionPolicy":
+                return deleteRetentionPolicy(request);
+            case "PutMetricFilter":
+                return putMetricFilter(request);
+            case "DeleteMetricFilter":
+                return deleteMetricFilter(request);
+            case "DescribeMetricFilters":
+                return describeMetricFilters(request);
+            default:
+                throw new ServiceException("UnknownOperationException", "Unknown operation " + operation);
+        }
+    }
+
+    private void injectFault(final String operation) {
+        final Iterator<Fault> pending = faults.iterator();
+        while (pending.hasNext()) {
+            final Fault fault = pending.next();
+            if (fault.operation.equals(operation)) {
+                if (--fault.remaining <= 0) {
+                    pending.remove();
+                }
+                throw new ServiceException(fault.errorType, "Injected " + fault.errorType);
+            }
+        }
+        if (throttleRatio > 0 && random.nextDouble() < throttleRatio) {
+            throw new ServiceException(THROTTLING, "Rate exceeded");
+        }
+    }
+
+    private JsonNode createLogGroup(final JsonNode request) {
+        final String logGroupName = requiredName(request, "logGroupName");
+        if (!LOG_GROUP_NAME.matcher(logGroupName).matches()) {
+            throw invalidParameter("Invalid log group name " + logGroupName);
+        }
+        if (logGroups.containsKey(logGroupName)) {
+            throw new ServiceException("ResourceAlreadyExistsException", "The specified log group already exists");
+        }
+        if (logGroups.size() >= logGroupQuota) {
+            throw new ServiceException("LimitExceededException", "Resource limit exceeded.");
+        }
+        logGroups.put(logGroupName, new LogGroupState(logGroupName, System.currentTimeMillis()));
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode deleteLogGroup(final JsonNode request) {
+        if (logGroups.remove(requiredName(request, "logGroupName")) == null) {
+            throw logGroupNotFound();
+        }
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode describeLogGroups(final JsonNode request) {
+        return page(logGroups, text(request, "logGroupNamePrefix"), request, "logGroups", LogGroupState::toJson);
+    }
+
+    private JsonNode putRetentionPolicy(final JsonNode request) {
+        final LogGroupState logGroup = existingLogGroup(request);
+        final int retentionInDays = request.path("retentionInDays").asInt();
+        if (!RETENTION_DAYS.contains(retentionInDays)) {
+            throw invalidParameter("Invalid retentionInDays " + retentionInDays);
+        }
+        logGroup.retentionInDays = retentionInDays;
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode deleteRetentionPolicy(final JsonNode request) {
+        existingLogGroup(request).retentionInDays = null;
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode putMetricFilter(final JsonNode request) {
+        final LogGroupState logGroup = existingLogGroup(request);
+        final String filterName = requiredName(request, "filterName");
+        final JsonNode filterPattern = request.get("filterPattern");
+        final JsonNode metricTransformations = request.path("metricTransformations");
+        if (filterPattern == null || !filterPattern.isTextual()) {
+            throw invalidParameter("filterPattern is required");
+        }
+        if (!metricTransformations.isArray() || metricTransformations.size() != 1) {
+            throw invalidParameter("Exactly one metricTransformation is required");
+        }
+        if (!logGroup.metricFilters.containsKey(filterName) && logGroup.metricFilters.size() >= metricFilterQuota) {
+            throw new ServiceException("LimitExceededException", "Resource limit exceeded.");
+        }
+        final ObjectNode metricFilter = MAPPER.createObjectNode()
+                .put("filterName", filterName)
+                .put("filterPattern", filterPattern.asText())
+                .put("creationTime", System.currentTimeMillis())
+                .put("logGroupName", logGroup.name);
+        metricFilter.set("metricTransformations", metricTransformations.deepCopy());
+        logGroup.metricFilters.put(filterName, metricFilter);
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode deleteMetricFilter(final JsonNode request) {
+        final LogGroupState logGroup = existingLogGroup(request);
+        if (logGroup.metricFilters.remove(requiredName(request, "filterName")) == null) {
+            throw new ServiceException("ResourceNotFoundException", "The specified metric filter does not exist.");
+        }
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode describeMetricFilters(final JsonNode request) {
+        final String logGroupName = text(request, "logGroupName");
+        final String filterNamePrefix = text(request, "filterNamePrefix");
+        if (logGroupName == null) {
+            if (filterNamePrefix != null) {
+                throw invalidParameter("filterNamePrefix requires logGroupName");
+            }
+            // account-wide listing is ordered by log group, then by filter name
+            final NavigableMap<String, ObjectNode> all = new TreeMap<>();
+            logGroups.values().forEach(logGroup -> logGroup.metricFilters.forEach(
+                    (filterName, metricFilter) -> all.put(logGroup.name + '\u0000' + filterName, metricFilter)));
+            return page(all, null, request, "metricFilters", Function.identity());
+        }
+        final LogGroupState logGroup = logGroups.get(logGroupName);
+        if (logGroup == null) {
+            throw logGroupNotFound();
+        }
+        return page(logGroup.metricFilters, filterNamePrefix, request, "metricFilters", Function.identity());
+    }
+
+    /**
+     * Returns up to {@code limit} entries whose key starts with {@code prefix}, in key order,
+     * resuming after the key encoded in {@code nextToken}.
+     */
+    private static <T> JsonNode page(final NavigableMap<String, T> items, final String prefix, final JsonNode request,
+                                     final String field, final Function<? super T, ? extends JsonNode> toJson) {
+        final int limit = request.path("limit").asInt(MAX_PAGE_SIZE);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw invalidParameter("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        final String nextToken = text(request, "nextToken");
+        final String from = nextToken != null ? decodeToken(nextToken) : prefix != null ? prefix : "";
+
+        final ObjectNode response = MAPPER.createObjectNode();
+        final ArrayNode results = response.putArray(field);
+        for (final Map.Entry<String, T> entry : items.tailMap(from, true).entrySet()) {
+            if (prefix != null && !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (results.size() == limit) {
+                response.put("nextToken", encodeToken(entry.getKey()));
+                break;
+            }
+            results.add(toJson.apply(entry.getValue()));
+        }
+        return response;
+    }
+
+    private static String encodeToken(final String key) {
+        return Base64.getUrlEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(final String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw invalidParameter("The specified nextToken is invalid.");
+        }
+    }
+
+    private LogGroupState existingLogGroup(final JsonNode request) {
+        final LogGroupState logGroup = logGroups.get(requiredName(request, "logGroupName"));
+        if (logGroup == null) {
+            throw logGroupNotFound();
+        }
+        return logGroup;
+    }
+
+    private static String requiredName(final JsonNode request, final String field) {
+        final String value = text(request, field);
+        if (value == null || value.isEmpty() || value.length() > MAX_NAME_LENGTH) {
+            throw invalidParameter(field + " must be between 1 and " + MAX_NAME_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static String text(final JsonNode request, final String field) {
+        final JsonNode value = request.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static ServiceException invalidParameter(final String message) {
+        return new ServiceException("InvalidParameterException", message);
+    }
+
+    private static ServiceException logGroupNotFound() {
+        return new ServiceException("ResourceNotFoundException", "The specified log group does not exist.");
+    }
+
+    private static final class LogGroupState {
+        private final String name;
+        private final long creationTime;
+        private final NavigableMap<String, ObjectNode> metricFilters = new TreeMap<>();
+        private Integer retentionInDays;
+
+        private LogGroupState(final String name, final long creationTime) {
+            this.name = name;
+            this.creationTime = creationTime;
+        }
+
+        private JsonNode toJson() {
+            final ObjectNode logGroup = MAPPER.createObjectNode()
+                    .put("logGroupName", name)
+                    .put("creationTime", creationTime)
+                    .put("metricFilterCount", metricFilters.size())
+                    .put("arn", String.format("arn:aws:logs:%s:%s:log-group:%s:*", REGION, ACCOUNT_ID, name))
+                    .put("storedBytes", 0L);
+            if (retentionInDays != null) {
+                logGroup.put("retentionInDays", retentionInDays);
+            }
+            return logGroup;
+        }
+    }
+
+    private static final class Fault {
+        private final String operation;
+        private final String errorType;
+        private int remaining;
+
+        private Fault(final String operation, final String errorType, final int remaining) {
+            this.operation = operation;
+            this.errorType = errorType;
+            this.remaining = remaining;
+        }
+    }
+
+    private static final class ServiceException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final String type;
+
+        private ServiceException(final String type, final String message) {
+            super(message);
+            this.type = type;
+        }
+    }
+}